@@ -24,4 +24,8 @@ CREATE TABLE classification_storage (
 -- └── ...
 
 -- 기존 fish 테이블에서 어종 목록 확인을 위한 쿼리
-SELECT DISTINCT name FROM fish ORDER BY name;
\ No newline at end of file
+SELECT DISTINCT name FROM fish ORDER BY name;
+
+-- 근접 중복 이미지 판별용 지각 해시 (dHash, 64bit)
+ALTER TABLE classification_storage ADD COLUMN image_hash BIGINT NULL;
+CREATE INDEX idx_image_hash ON classification_storage (image_hash);
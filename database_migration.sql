@@ -29,4 +29,119 @@ CREATE TABLE ranking_collection (
     UNIQUE KEY uk_user_fish (user_id, fish_id),
     FOREIGN KEY (user_id) REFERENCES user(id) ON DELETE CASCADE,
     FOREIGN KEY (fish_id) REFERENCES fish(id) ON DELETE CASCADE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='검증된 낚시 일지 기반 랭킹 테이블'; 
\ No newline at end of file
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='검증된 낚시 일지 기반 랭킹 테이블'; 
+
+-- 랭킹 페이지 조회용 인덱스
+CREATE INDEX idx_rc_total_score ON ranking_collection (total_score);
+CREATE INDEX idx_rc_highest_score ON ranking_collection (highest_score);
+CREATE INDEX idx_rc_fish_highest_score ON ranking_collection (fish_id, highest_score);
+
+-- 기간별(주간/월간/시즌) 랭킹 집계 테이블
+CREATE TABLE seasonal_ranking_collection (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    window_type VARCHAR(20) NOT NULL COMMENT '집계 기간 (WEEKLY, MONTHLY, SEASON)',
+    window_start DATE NOT NULL COMMENT '기간 시작일',
+    user_id BIGINT NOT NULL,
+    fish_id BIGINT NOT NULL,
+    highest_score INT NOT NULL DEFAULT 0 COMMENT '기간 내 최고 점수',
+    highest_length DOUBLE DEFAULT 0.0 COMMENT '기간 내 최고 길이',
+    total_score INT NOT NULL DEFAULT 0 COMMENT '기간 내 총 점수',
+    catch_count INT NOT NULL DEFAULT 0 COMMENT '기간 내 잡은 횟수',
+    UNIQUE KEY uk_src_window_user_fish (window_type, window_start, user_id, fish_id),
+    INDEX idx_src_window_total_score (window_type, window_start, total_score),
+    INDEX idx_src_window_highest_score (window_type, window_start, highest_score),
+    INDEX idx_src_window_fish_highest_score (window_type, window_start, fish_id, highest_score),
+    FOREIGN KEY (user_id) REFERENCES user(id) ON DELETE CASCADE,
+    FOREIGN KEY (fish_id) REFERENCES fish(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='기간별 랭킹 집계 테이블';
+
+-- 랭킹 전체 재구성 작업 / 파티션 진행 상태 (재개 가능)
+CREATE TABLE ranking_rebuild_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    from_user_id BIGINT NOT NULL,
+    to_user_id BIGINT NOT NULL,
+    partition_size INT NOT NULL,
+    total_partitions INT NOT NULL,
+    create_at DATETIME NOT NULL,
+    started_at DATETIME,
+    finished_at DATETIME
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='랭킹 재구성 작업';
+
+CREATE TABLE ranking_rebuild_partition (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    start_user_id BIGINT NOT NULL,
+    end_user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    processed_logs BIGINT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(500),
+    finished_at DATETIME,
+    INDEX idx_rrp_job_status (job_id, status),
+    FOREIGN KEY (job_id) REFERENCES ranking_rebuild_job(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='랭킹 재구성 파티션';
+
+-- fish_collection 사용자-물고기 유니크 키 (INSERT ... ON DUPLICATE KEY UPDATE 기준)
+-- 중복 레코드가 있으면 먼저 정리 후 적용 (가장 작은 id만 남김)
+DELETE fc1 FROM fish_collection fc1
+    JOIN fish_collection fc2 ON fc1.user_id = fc2.user_id AND fc1.fish_id = fc2.fish_id AND fc1.id > fc2.id;
+ALTER TABLE fish_collection ADD CONSTRAINT uk_fc_user_fish UNIQUE (user_id, fish_id);
+
+-- 어종별 검증된 길이 분포 (KLL 분위수 스케치)
+CREATE TABLE fish_length_distribution (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    fish_id BIGINT NOT NULL UNIQUE,
+    sample_count BIGINT NOT NULL DEFAULT 0 COMMENT '반영된 길이 표본 수',
+    sketch BLOB NOT NULL COMMENT '직렬화된 KLL 스케치',
+    update_at DATETIME,
+    FOREIGN KEY (fish_id) REFERENCES fish(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='어종별 길이 분포';
+
+-- 어종별 길이 Welford 누적 통계 (평균/표준편차 자동 보정)
+ALTER TABLE fish_length_distribution ADD COLUMN length_count BIGINT DEFAULT 0;
+ALTER TABLE fish_length_distribution ADD COLUMN length_mean DOUBLE DEFAULT 0;
+ALTER TABLE fish_length_distribution ADD COLUMN length_m2 DOUBLE DEFAULT 0;
+
+-- 어종별 낚시 일지 집계 (평균 점수 단일 행 조회)
+CREATE TABLE fish_log_aggregate (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    fish_id BIGINT NOT NULL UNIQUE,
+    log_count BIGINT NOT NULL DEFAULT 0 COMMENT '낚시 일지 수',
+    score_sum BIGINT NOT NULL DEFAULT 0 COMMENT '점수 합',
+    length_sum DOUBLE NOT NULL DEFAULT 0 COMMENT '길이 합',
+    update_at DATETIME,
+    FOREIGN KEY (fish_id) REFERENCES fish(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='어종별 낚시 일지 집계';
+
+-- 기존 일지로 집계 채우기
+INSERT INTO fish_log_aggregate (fish_id, log_count, score_sum, length_sum, update_at)
+SELECT fish_id, COUNT(*), COALESCE(SUM(score), 0), COALESCE(SUM(length), 0), NOW()
+FROM fish_log
+GROUP BY fish_id;
+
+-- 낚시 일지 타임라인 키셋 페이지 (user_id, collect_at, id)
+CREATE INDEX idx_fish_log_user_collect_at_id ON fish_log (user_id, collect_at, id);
+
+-- 조과 후속 처리 아웃박스 (도감/어종 집계/분류 로그/랭킹 반영을 소비자가 따로 처리)
+CREATE TABLE catch_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(20) NOT NULL COMMENT 'CATCH_CREATED, CATCH_VERIFIED',
+    fish_log_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    fish_id BIGINT NOT NULL,
+    score INT NOT NULL,
+    length DOUBLE,
+    classification_log_id BIGINT,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, PROCESSING, DONE, FAILED',
+    completed_handlers INT NOT NULL DEFAULT 0 COMMENT '완료된 소비자 비트',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    locked_by VARCHAR(100),
+    locked_at DATETIME,
+    last_error VARCHAR(500),
+    create_at DATETIME NOT NULL,
+    processed_at DATETIME,
+    INDEX idx_co_status_next_attempt (status, next_attempt_at),
+    INDEX idx_co_fish_log (fish_log_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='조과 후속 처리 아웃박스';
@@ -0,0 +1,35 @@
+package com.fishiphedia.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 리포지토리/서비스 대역.
+ * 지정한 메서드 이름만 응답하고 나머지 호출은 예외로 막아, DB 없이 서비스 코드만 측정한다.
+ */
+public final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler != null) {
+                return handler.apply(args);
+            }
+            if (method.getName().equals("toString")) {
+                return "stub(" + type.getSimpleName() + ")";
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            throw new UnsupportedOperationException("벤치마크 대역에서 지원하지 않는 호출: " + method.getName());
+        });
+    }
+}
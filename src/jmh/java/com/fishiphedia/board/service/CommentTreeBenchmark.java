@@ -0,0 +1,80 @@
+package com.fishiphedia.board.service;
+
+import com.fishiphedia.bench.RepositoryStubs;
+import com.fishiphedia.board.dto.CommentResponse;
+import com.fishiphedia.board.entity.Comment;
+import com.fishiphedia.board.repository.AlbumRepository;
+import com.fishiphedia.board.repository.BoardRepository;
+import com.fishiphedia.board.repository.CommentRepository;
+import com.fishiphedia.user.entity.User;
+import com.fishiphedia.user.entity.UserInfo;
+import com.fishiphedia.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * BoardServiceImpl.getCommentsByBoardId의 댓글 트리 구성 (DTO 변환 + 부모 연결)
+ */
+@State(Scope.Benchmark)
+public class CommentTreeBenchmark {
+
+    @Param({"100", "5000"})
+    private int commentCount;
+
+    private BoardServiceImpl boardService;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3);
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            User user = new User();
+            user.setId(i);
+            UserInfo userInfo = new UserInfo();
+            userInfo.setName("사용자" + i);
+            user.setUserInfo(userInfo);
+            users.add(user);
+        }
+
+        // 30%는 최상위 댓글, 나머지는 앞선 댓글의 답글
+        List<Comment> comments = new ArrayList<>(commentCount);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < commentCount; i++) {
+            Comment comment = new Comment();
+            comment.setId((long) i + 1);
+            comment.setUser(users.get(random.nextInt(users.size())));
+            comment.setContent("댓글 내용 " + i);
+            comment.setCreateAt(base.plusMinutes(i));
+            if (i > 0 && random.nextDouble() >= 0.3) {
+                Comment parent = comments.get(random.nextInt(i));
+                comment.setParent(parent);
+                comment.setDepth(parent.getDepth() + 1);
+            } else {
+                comment.setDepth(0);
+            }
+            comments.add(comment);
+        }
+
+        CommentRepository commentRepository = RepositoryStubs.stub(CommentRepository.class, Map.of(
+                "findByBoardIdOrderByCreateAtAsc", args -> comments));
+        boardService = new BoardServiceImpl(
+                RepositoryStubs.stub(BoardRepository.class, Map.of()),
+                commentRepository,
+                RepositoryStubs.stub(AlbumRepository.class, Map.of()),
+                RepositoryStubs.stub(UserService.class, Map.of()));
+    }
+
+    @Benchmark
+    public List<CommentResponse> buildCommentTree() {
+        return boardService.getCommentsByBoardId(1L);
+    }
+}
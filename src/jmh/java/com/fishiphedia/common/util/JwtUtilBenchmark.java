@@ -0,0 +1,44 @@
+package com.fishiphedia.common.util;
+
+import com.fishiphedia.config.JwtConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청마다 실행되는 JWT 검증/파싱 비용 (JwtAuthenticationFilter 경로)
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new JwtConfig());
+        token = jwtUtil.generateAccessToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String getLoginIdFromToken() {
+        return jwtUtil.getLoginIdFromToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateAndParse() {
+        // 필터에서 실제로 일어나는 호출 순서 (검증 후 loginId 추출)
+        return jwtUtil.validateToken(token) && jwtUtil.getLoginIdFromToken(token) != null;
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken("benchmark-user");
+    }
+}
@@ -0,0 +1,58 @@
+package com.fishiphedia.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 레벨 계산 비용이 점수 구간과 무관하게 일정한지 확인하는 벤치마크.
+ * legacyLoop는 기존 while 루프 구현으로, 점수가 커질수록 느려지는 기준선이다.
+ */
+@State(Scope.Benchmark)
+public class LevelCalculatorBenchmark {
+
+    @Param({"50", "10000", "1000000", "100000000", "2000000000"})
+    private int totalScore;
+
+    private LevelCurve quadratic;
+    private LevelCurve table;
+
+    @Setup
+    public void setUp() {
+        quadratic = new QuadraticLevelCurve(100);
+        table = ThresholdTableLevelCurve.precompute(quadratic, 10000);
+    }
+
+    @Benchmark
+    public LevelCalculator.LevelInfo legacyLoop() {
+        int level = 1;
+        int currentLevelMinScore = 0;
+        int nextLevelMinScore = 100;
+        while (totalScore >= nextLevelMinScore) {
+            level++;
+            currentLevelMinScore = nextLevelMinScore;
+            nextLevelMinScore = level * 100 + level * (level - 1) * 50;
+        }
+        double progress = level > 1
+                ? (double) (totalScore - currentLevelMinScore) / (nextLevelMinScore - currentLevelMinScore)
+                : totalScore / 100.0;
+        return new LevelCalculator.LevelInfo(level, progress);
+    }
+
+    @Benchmark
+    public LevelCalculator.LevelInfo quadraticCurve() {
+        return quadratic.levelInfo(totalScore);
+    }
+
+    @Benchmark
+    public LevelCalculator.LevelInfo thresholdTable() {
+        return table.levelInfo(totalScore);
+    }
+
+    @Benchmark
+    public LevelCalculator.LevelInfo calculatorDefault() {
+        return LevelCalculator.calculateLevel(totalScore);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fishiphedia.fish.service;
+
+import com.fishiphedia.bench.RepositoryStubs;
+import com.fishiphedia.common.util.KllSketch;
+import com.fishiphedia.fish.entity.Fish;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 낚시 일지 점수 계산 (FishScoreCalculator, 기존 FishLogServiceImpl 점수 로직).
+ * 실측 분포(KLL 스케치)를 쓰는 경우와 정규분포 대체 계산을 각각 측정한다.
+ */
+@State(Scope.Benchmark)
+public class FishScoreBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int samples;
+
+    private FishScoreCalculator empiricalCalculator;
+    private FishScoreCalculator normalCalculator;
+    private Fish fish;
+    private double[] lengths;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        KllSketch sketch = new KllSketch(200);
+        for (int i = 0; i < samples; i++) {
+            sketch.update(35 + 9 * random.nextGaussian());
+        }
+
+        empiricalCalculator = new FishScoreCalculator(RepositoryStubs.stub(FishLengthDistributionService.class, Map.of(
+                "getPercentile", args -> sketch.rank((Double) args[1]) * 100.0)));
+        normalCalculator = new FishScoreCalculator(RepositoryStubs.stub(FishLengthDistributionService.class, Map.of(
+                "getPercentile", args -> null)));
+
+        fish = new Fish();
+        fish.setId(1L);
+        fish.setName("감성돔");
+        fish.setAvgLength(35.0);
+        fish.setStdDeviation(9.0);
+        fish.setRarityScore(40);
+
+        lengths = new double[1024];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = Math.max(1.0, 35 + 12 * random.nextGaussian());
+        }
+    }
+
+    @Benchmark
+    public int empiricalPercentile() {
+        return empiricalCalculator.calculateScore(fish, lengths[cursor++ & 1023]);
+    }
+
+    @Benchmark
+    public int normalFallback() {
+        return normalCalculator.calculateScore(fish, lengths[cursor++ & 1023]);
+    }
+}
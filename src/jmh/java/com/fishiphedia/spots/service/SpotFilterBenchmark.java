@@ -0,0 +1,80 @@
+package com.fishiphedia.spots.service;
+
+import com.fishiphedia.bench.RepositoryStubs;
+import com.fishiphedia.spots.dto.SpotDetailSearchRequest;
+import com.fishiphedia.spots.dto.SpotResponse;
+import com.fishiphedia.spots.entity.Spot;
+import com.fishiphedia.spots.entity.SpotType;
+import com.fishiphedia.spots.entity.WaterFacilityType;
+import com.fishiphedia.spots.repository.SpotRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * SpotServiceImpl 상세 검색의 메모리 필터 체인
+ * (matchesFishSpecies의 소문자 변환/contains, matchesUsageFeeRange의 정규식 치환 포함).
+ */
+@State(Scope.Benchmark)
+public class SpotFilterBenchmark {
+
+    private static final String[] FISH = {"붕어", "잉어", "배스", "향어", "메기", "송어", "감성돔", "우럭", "광어", "쏘가리"};
+    private static final String[] FEES = {"10,000원", "1일 20000원", "무료", "성인 15,000원 / 청소년 8,000원", "", "30000", "문의"};
+    private static final String[] FACILITIES = {"화장실", "주차장", "매점", "좌대", "샤워실"};
+
+    @Param({"1000", "20000"})
+    private int spotCount;
+
+    private SpotServiceImpl spotService;
+    private SpotDetailSearchRequest fishAndFeeRequest;
+    private SpotDetailSearchRequest feeOnlyRequest;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        List<Spot> spots = new ArrayList<>(spotCount);
+        for (int i = 0; i < spotCount; i++) {
+            Spot spot = new Spot();
+            spot.setId((long) i);
+            spot.setName("낚시터" + i);
+            spot.setSpotType(SpotType.values()[random.nextInt(SpotType.values().length)]);
+            spot.setWaterFacilityType(WaterFacilityType.values()[random.nextInt(WaterFacilityType.values().length)]);
+            spot.setMainFishSpecies(FISH[random.nextInt(FISH.length)] + ", " + FISH[random.nextInt(FISH.length)]);
+            spot.setUsageFee(FEES[random.nextInt(FEES.length)]);
+            spot.setConvenienceFacilities(FACILITIES[random.nextInt(FACILITIES.length)] + ", " + FACILITIES[random.nextInt(FACILITIES.length)]);
+            spot.setLatitude(33 + random.nextDouble() * 5);
+            spot.setLongitude(125 + random.nextDouble() * 5);
+            spots.add(spot);
+        }
+
+        SpotRepository repository = RepositoryStubs.stub(SpotRepository.class, Map.of(
+                "findByDetailSearchCriteria", args -> spots));
+        spotService = new SpotServiceImpl(repository, new SpotSpatialIndex());
+
+        fishAndFeeRequest = new SpotDetailSearchRequest();
+        fishAndFeeRequest.setFishSpecies(List.of("붕어", "배스"));
+        fishAndFeeRequest.setMinUsageFee(5000);
+        fishAndFeeRequest.setMaxUsageFee(25000);
+        fishAndFeeRequest.setConvenienceFacilities(List.of("주차장"));
+
+        feeOnlyRequest = new SpotDetailSearchRequest();
+        feeOnlyRequest.setMaxUsageFee(20000);
+    }
+
+    @Benchmark
+    public List<SpotResponse> fishSpeciesAndFee() {
+        return spotService.searchSpotsWithDetailFilters(fishAndFeeRequest);
+    }
+
+    @Benchmark
+    public List<SpotResponse> usageFeeOnly() {
+        return spotService.searchSpotsWithDetailFilters(feeOnlyRequest);
+    }
+}
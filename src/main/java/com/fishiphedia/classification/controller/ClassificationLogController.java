@@ -1,5 +1,7 @@
 package com.fishiphedia.classification.controller;
 
+import com.fishiphedia.classification.dto.ClassificationFeedbackBulkRequest;
+import com.fishiphedia.classification.dto.ClassificationFeedbackBulkResponse;
 import com.fishiphedia.classification.dto.ClassificationLogResponse;
 import com.fishiphedia.classification.service.ClassificationLogService;
 import com.fishiphedia.common.util.JwtUtil;
@@ -67,6 +69,19 @@ public class ClassificationLogController {
         }
     }
     
+    /**
+     * 사용자 피드백 일괄 업데이트 (관리자 오답 정정용)
+     */
+    @PutMapping("/feedback/bulk")
+    public ResponseEntity<?> updateUserFeedbackBulk(@RequestBody ClassificationFeedbackBulkRequest request) {
+        try {
+            ClassificationFeedbackBulkResponse response = classificationLogService.updateUserFeedbackBulk(request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("피드백 일괄 업데이트 실패: " + e.getMessage());
+        }
+    }
+    
     /**
      * 낚시 일지와 연결
      */
@@ -0,0 +1,27 @@
+package com.fishiphedia.classification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassificationFeedbackBulkRequest {
+    private List<FeedbackItem> items;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FeedbackItem {
+        private Long logId;
+        private String correctedFishName;
+        private Boolean isCorrect; // null이면 예측값과 비교해서 결정
+        private String reason;
+    }
+}
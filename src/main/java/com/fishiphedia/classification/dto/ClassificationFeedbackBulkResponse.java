@@ -0,0 +1,19 @@
+package com.fishiphedia.classification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassificationFeedbackBulkResponse {
+    private Integer requestedCount;
+    private Integer updatedCount;
+    private Integer correctionHistoryCount;
+    private List<Long> notFoundLogIds;
+}
@@ -11,7 +11,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "classification_storage")
+@Table(
+    name = "classification_storage",
+    indexes = {
+        @Index(name = "idx_image_hash", columnList = "image_hash")
+    }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,6 +46,10 @@ public class ClassificationStorage {
     @Column(name = "classification_date")
     private LocalDateTime classificationDate;
     
+    // 근접 중복 판별용 지각 해시 (dHash)
+    @Column(name = "image_hash")
+    private Long imageHash;
+    
     @PrePersist
     protected void onCreate() {
         classificationDate = LocalDateTime.now();
@@ -31,4 +31,9 @@ public interface ClassificationStorageRepository extends JpaRepository<Classific
            "SUM(CASE WHEN cs.confidence >= 90 AND cs.confidence < 99 THEN 1 ELSE 0 END) as mediumConfidence " +
            "FROM ClassificationStorage cs")
     Object[] getConfidenceStatistics();
+    
+    // 해시 인덱스 구성용 (id, imageHash, userId, predictedFishName), 비로그인 분류는 중복 비교 대상이 아님
+    @Query("SELECT cs.id, cs.imageHash, cs.user.id, cs.predictedFishName FROM ClassificationStorage cs " +
+           "WHERE cs.imageHash IS NOT NULL AND cs.user IS NOT NULL")
+    List<Object[]> findAllUserImageHashes();
 }
\ No newline at end of file
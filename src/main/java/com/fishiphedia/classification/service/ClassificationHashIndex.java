@@ -0,0 +1,167 @@
+package com.fishiphedia.classification.service;
+
+import com.fishiphedia.classification.repository.ClassificationStorageRepository;
+import com.fishiphedia.common.util.ImageHashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 분류 저장소 이미지 해시 인덱스 (BK-tree)
+ * 해밍 거리 기준 근접 중복 이미지를 메모리에서 조회한다.
+ * 같은 사용자가 같은 어종으로 분류한 이미지끼리만 비교하도록 (사용자, 예측 어종)마다 트리를 따로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClassificationHashIndex {
+
+    private final ClassificationStorageRepository classificationStorageRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node> roots = new HashMap<>();
+    private int size;
+
+    /**
+     * 애플리케이션 시작 시 저장된 해시로 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Object[]> rows = classificationStorageRepository.findAllUserImageHashes();
+        lock.writeLock().lock();
+        try {
+            roots.clear();
+            size = 0;
+            for (Object[] row : rows) {
+                insert(scope((Long) row[2], (String) row[3]), (Long) row[0], (Long) row[1]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("분류 저장소 해시 인덱스 구성 완료: {}건", rows.size());
+    }
+
+    public void add(Long userId, String fishName, Long storageId, long hash) {
+        lock.writeLock().lock();
+        try {
+            insert(scope(userId, fishName), storageId, hash);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId, String fishName, Long storageId, long hash) {
+        lock.writeLock().lock();
+        try {
+            Node node = roots.get(scope(userId, fishName));
+            while (node != null) {
+                int distance = ImageHashUtil.hammingDistance(node.hash, hash);
+                if (distance == 0) {
+                    if (node.storageIds.remove(storageId)) {
+                        size--;
+                    }
+                    return;
+                }
+                node = node.children.get(distance);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 같은 사용자, 같은 예측 어종 안에서 해밍 거리 maxDistance 이내의 가장 가까운 저장소 ID 조회
+     * @return 가장 가까운 저장소 ID, 없으면 null
+     */
+    public Long findNearest(Long userId, String fishName, long hash, int maxDistance) {
+        lock.readLock().lock();
+        try {
+            Node root = roots.get(scope(userId, fishName));
+            if (root == null) {
+                return null;
+            }
+            Long bestId = null;
+            int bestDistance = maxDistance + 1;
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                int distance = ImageHashUtil.hammingDistance(node.hash, hash);
+                if (distance < bestDistance && !node.storageIds.isEmpty()) {
+                    bestDistance = distance;
+                    bestId = node.storageIds.get(0);
+                    if (distance == 0) {
+                        break;
+                    }
+                }
+                // 삼각 부등식: |d - r| <= k 인 자식만 탐색
+                int radius = Math.min(maxDistance, bestDistance);
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - distance) <= radius) {
+                        stack.push(child.getValue());
+                    }
+                }
+            }
+            return bestId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String scope(Long userId, String fishName) {
+        return userId + ":" + fishName;
+    }
+
+    private void insert(String scope, Long storageId, long hash) {
+        size++;
+        Node node = roots.get(scope);
+        if (node == null) {
+            roots.put(scope, new Node(hash, storageId));
+            return;
+        }
+        while (true) {
+            int distance = ImageHashUtil.hammingDistance(node.hash, hash);
+            if (distance == 0) {
+                node.storageIds.add(storageId);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(hash, storageId));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private static class Node {
+        private final long hash;
+        private final List<Long> storageIds = new ArrayList<>(1);
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(long hash, Long storageId) {
+            this.hash = hash;
+            this.storageIds.add(storageId);
+        }
+    }
+}
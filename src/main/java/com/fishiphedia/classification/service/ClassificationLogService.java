@@ -1,5 +1,7 @@
 package com.fishiphedia.classification.service;
 
+import com.fishiphedia.classification.dto.ClassificationFeedbackBulkRequest;
+import com.fishiphedia.classification.dto.ClassificationFeedbackBulkResponse;
 import com.fishiphedia.classification.dto.ClassificationLogRequest;
 import com.fishiphedia.classification.dto.ClassificationLogResponse;
 import com.fishiphedia.classification.entity.ClassificationLog;
@@ -28,6 +30,11 @@ public interface ClassificationLogService {
      */
     ClassificationLog updateUserFeedback(Long logId, String correctedFishName, Boolean isCorrect, String reason);
     
+    /**
+     * 사용자 피드백 일괄 업데이트 (한 트랜잭션에서 일괄 조회/이력 추가/수정)
+     */
+    ClassificationFeedbackBulkResponse updateUserFeedbackBulk(ClassificationFeedbackBulkRequest request);
+    
     /**
      * 낚시 일지와 연결
      */
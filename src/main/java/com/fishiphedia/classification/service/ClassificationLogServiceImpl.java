@@ -1,5 +1,7 @@
 package com.fishiphedia.classification.service;
 
+import com.fishiphedia.classification.dto.ClassificationFeedbackBulkRequest;
+import com.fishiphedia.classification.dto.ClassificationFeedbackBulkResponse;
 import com.fishiphedia.classification.dto.ClassificationLogRequest;
 import com.fishiphedia.classification.dto.ClassificationLogResponse;
 import com.fishiphedia.classification.entity.ClassificationCorrectionHistory;
@@ -12,6 +14,7 @@ import com.fishiphedia.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +22,17 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,6 +43,12 @@ public class ClassificationLogServiceImpl implements ClassificationLogService {
     private final ClassificationLogRepository classificationLogRepository;
     private final UserRepository userRepository;
     private final FishLogRepository fishLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    private static final String INSERT_CORRECTION_HISTORY_SQL =
+            "INSERT INTO classification_correction_history " +
+            "(classification_log_id, old_fish_name, new_fish_name, correction_reason, correction_date) " +
+            "VALUES (?, ?, ?, ?, ?)";
     
     @Value("${app.classification.storage.path:./classification_storage}")
     private String classificationStoragePath;
@@ -146,6 +162,64 @@ public class ClassificationLogServiceImpl implements ClassificationLogService {
         return classificationLogRepository.save(log);
     }
     
+    @Override
+    @Transactional
+    public ClassificationFeedbackBulkResponse updateUserFeedbackBulk(ClassificationFeedbackBulkRequest request) {
+        List<ClassificationFeedbackBulkRequest.FeedbackItem> items = request.getItems() != null ? 
+                request.getItems() : List.of();
+        
+        // 1. 대상 로그 일괄 조회
+        Set<Long> logIds = items.stream()
+                .map(ClassificationFeedbackBulkRequest.FeedbackItem::getLogId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, ClassificationLog> logMap = classificationLogRepository.findAllById(logIds).stream()
+                .collect(Collectors.toMap(ClassificationLog::getId, Function.identity()));
+        
+        // 2. 피드백 적용 (수정 이력은 지연 로딩 컬렉션을 건드리지 않고 따로 모음)
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> histories = new ArrayList<>();
+        Set<Long> notFoundLogIds = new LinkedHashSet<>();
+        for (ClassificationFeedbackBulkRequest.FeedbackItem item : items) {
+            ClassificationLog log = logMap.get(item.getLogId());
+            if (log == null) {
+                notFoundLogIds.add(item.getLogId());
+                continue;
+            }
+            
+            String oldFishName = log.getUserCorrectedFishName() != null ? 
+                    log.getUserCorrectedFishName() : log.getPredictedFishName();
+            Boolean isCorrect = item.getIsCorrect() != null ? 
+                    item.getIsCorrect() : Objects.equals(log.getPredictedFishName(), item.getCorrectedFishName());
+            
+            log.setUserCorrectedFishName(item.getCorrectedFishName());
+            log.setIsCorrect(isCorrect);
+            log.setUserFeedbackDate(now);
+            
+            if (!Objects.equals(oldFishName, item.getCorrectedFishName())) {
+                histories.add(new Object[]{
+                        log.getId(), oldFishName, item.getCorrectedFishName(), item.getReason(), Timestamp.valueOf(now)
+                });
+            }
+        }
+        
+        // 3. 수정 이력 일괄 추가 + 로그 일괄 수정
+        if (!histories.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CORRECTION_HISTORY_SQL, histories);
+        }
+        classificationLogRepository.saveAll(logMap.values());
+        
+        log.info("분류 피드백 일괄 업데이트 완료: 요청={}, 수정={}, 이력={}, 누락={}", 
+                items.size(), logMap.size(), histories.size(), notFoundLogIds.size());
+        
+        return ClassificationFeedbackBulkResponse.builder()
+                .requestedCount(items.size())
+                .updatedCount(logMap.size())
+                .correctionHistoryCount(histories.size())
+                .notFoundLogIds(new ArrayList<>(notFoundLogIds))
+                .build();
+    }
+    
     @Override
     @Transactional
     public ClassificationLog linkToFishLog(Long logId, Long fishLogId) {
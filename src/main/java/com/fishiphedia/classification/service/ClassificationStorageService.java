@@ -9,7 +9,7 @@ import java.util.List;
 public interface ClassificationStorageService {
     
     /**
-     * 고신뢰도 분류 결과 저장
+     * 고신뢰도 분류 결과 저장 (같은 사용자가 같은 어종으로 올린 근접 중복 이미지는 저장하지 않고 그 사용자의 기존 결과 반환)
      */
     ClassificationStorage saveHighConfidenceClassification(
             Long userId, 
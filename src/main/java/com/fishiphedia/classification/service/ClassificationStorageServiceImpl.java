@@ -3,6 +3,7 @@ package com.fishiphedia.classification.service;
 import com.fishiphedia.classification.dto.ClassificationStorageRequest;
 import com.fishiphedia.classification.entity.ClassificationStorage;
 import com.fishiphedia.classification.repository.ClassificationStorageRepository;
+import com.fishiphedia.common.util.ImageHashUtil;
 import com.fishiphedia.user.entity.User;
 import com.fishiphedia.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -27,6 +30,7 @@ public class ClassificationStorageServiceImpl implements ClassificationStorageSe
     
     private final ClassificationStorageRepository classificationStorageRepository;
     private final UserRepository userRepository;
+    private final ClassificationHashIndex classificationHashIndex;
     
     @Value("${app.classification.storage.path:./classification_storage}")
     private String classificationStoragePath;
@@ -34,6 +38,9 @@ public class ClassificationStorageServiceImpl implements ClassificationStorageSe
     @Value("${app.classification.confidence.threshold:90}")
     private BigDecimal confidenceThreshold;
     
+    @Value("${app.classification.duplicate.max-distance:6}")
+    private int duplicateMaxDistance;
+    
     @Override
     @Transactional
     public ClassificationStorage saveHighConfidenceClassification(Long userId, ClassificationStorageRequest request) {
@@ -49,6 +56,17 @@ public class ClassificationStorageServiceImpl implements ClassificationStorageSe
                     .orElse(null); // 사용자를 찾을 수 없어도 저장 계속 진행
         }
         
+        // 근접 중복 이미지 확인 (같은 사용자가 같은 어종으로 다시 올린 재촬영/리사이즈본은 다시 저장하지 않음)
+        // 비로그인 분류는 올린 사람을 구분할 수 없으므로 중복 확인 없이 저장
+        Long imageHash = ImageHashUtil.calculateDHash(request.getImageData());
+        if (imageHash != null && user != null) {
+            ClassificationStorage duplicate = findNearDuplicate(user.getId(), request.getPredictedFishName(), imageHash);
+            if (duplicate != null) {
+                log.info("근접 중복 이미지로 저장 생략: 기존 ID={}, 어종={}", duplicate.getId(), duplicate.getPredictedFishName());
+                return duplicate;
+            }
+        }
+        
         // 이미지 파일 저장
         String imagePath = saveImageFile(request.getPredictedFishName(), request.getImageData(), request.getOriginalFilename());
         
@@ -59,15 +77,45 @@ public class ClassificationStorageServiceImpl implements ClassificationStorageSe
                 .confidence(request.getConfidence())
                 .imagePath(imagePath)
                 .originalFilename(request.getOriginalFilename())
+                .imageHash(imageHash)
                 .build();
         
         ClassificationStorage saved = classificationStorageRepository.save(classificationStorage);
+        if (imageHash != null && user != null) {
+            registerHashAfterCommit(user.getId(), saved.getPredictedFishName(), saved.getId(), imageHash);
+        }
         log.info("고신뢰도 분류 결과 저장 완료: 사용자={}, 어종={}, 신뢰도={}%", 
                 userId != null ? userId : "비로그인", request.getPredictedFishName(), request.getConfidence());
         
         return saved;
     }
     
+    private ClassificationStorage findNearDuplicate(Long userId, String fishName, long imageHash) {
+        Long duplicateId = classificationHashIndex.findNearest(userId, fishName, imageHash, duplicateMaxDistance);
+        if (duplicateId == null) {
+            return null;
+        }
+        ClassificationStorage duplicate = classificationStorageRepository.findById(duplicateId).orElse(null);
+        if (duplicate == null) {
+            // 삭제된 행이 인덱스에 남아있는 경우 정리
+            classificationHashIndex.remove(userId, fishName, duplicateId, imageHash);
+        }
+        return duplicate;
+    }
+    
+    private void registerHashAfterCommit(Long userId, String fishName, Long storageId, long imageHash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            classificationHashIndex.add(userId, fishName, storageId, imageHash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                classificationHashIndex.add(userId, fishName, storageId, imageHash);
+            }
+        });
+    }
+    
     private String saveImageFile(String fishName, byte[] imageData, String originalFilename) {
         try {
             // 어종별 폴더 생성
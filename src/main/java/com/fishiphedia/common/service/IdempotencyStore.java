@@ -0,0 +1,174 @@
+package com.fishiphedia.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 방지 저장소 (인스턴스 메모리, 최대 개수와 TTL 제한).
+ * 같은 범위(scope)와 키로 다시 들어온 요청은 처리 로직을 실행하지 않고 저장된 성공 응답을 그대로 돌려준다.
+ * 첫 요청이 처리 중이면 끝날 때까지 기다렸다가 그 응답을 돌려주고,
+ * 첫 요청이 실패하면 키를 비워 다음 재시도가 다시 처리되도록 한다.
+ * 요청 지문(fingerprint)을 함께 넘기면 같은 키를 다른 요청 내용으로 다시 쓴 경우 422로 거절한다.
+ * 최대 개수는 느슨한 상한으로, 초과 시 응답이 끝난 항목만 오래된 순으로 내보내고 처리 중인 항목은 남긴다.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final Map<String, Entry> entries;
+    private final long ttlMillis;
+    private final long waitMillis;
+
+    public IdempotencyStore(@Value("${app.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${app.idempotency.ttl-minutes:1440}") long ttlMinutes,
+                            @Value("${app.idempotency.wait-seconds:30}") long waitSeconds) {
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                // 처리 중인 항목을 내보내면 같은 키의 재시도가 다시 실행되므로 완료된 항목만 제거
+                Iterator<Map.Entry<String, Entry>> it = entrySet().iterator();
+                while (size() > maxEntries && it.hasNext()) {
+                    if (it.next().getValue().response.isDone()) {
+                        it.remove();
+                    }
+                }
+                return false;
+            }
+        };
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        this.waitMillis = TimeUnit.SECONDS.toMillis(waitSeconds);
+    }
+
+    /**
+     * key가 없으면 action을 그대로 실행하고, 있으면 (scope, key)당 한 번만 실행한다.
+     * 2xx 응답만 저장한다.
+     */
+    public <T> ResponseEntity<T> execute(String scope, String key, Supplier<ResponseEntity<T>> action) {
+        return execute(scope, key, null, action);
+    }
+
+    /**
+     * execute와 같지만, 저장된 요청과 fingerprint가 다르면 action을 실행하지 않고 422를 돌려준다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String scope, String key, String fingerprint, Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return (ResponseEntity<T>) ResponseEntity.badRequest().build();
+        }
+
+        String storeKey = scope + ":" + key;
+        long now = System.currentTimeMillis();
+        Entry entry;
+        boolean owner = false;
+        synchronized (this) {
+            entry = entries.get(storeKey);
+            if (entry == null || entry.isExpired(now)) {
+                entry = new Entry(now + ttlMillis, fingerprint);
+                entries.put(storeKey, entry);
+                owner = true;
+            }
+        }
+
+        if (!owner && !Objects.equals(entry.fingerprint, fingerprint)) {
+            log.debug("다른 요청 내용으로 멱등 키 재사용: scope={}, key={}", scope, key);
+            return (ResponseEntity<T>) ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        }
+
+        if (!owner) {
+            try {
+                ResponseEntity<?> stored = entry.response.get(waitMillis, TimeUnit.MILLISECONDS);
+                log.debug("중복 요청 응답 재사용: scope={}, key={}", scope, key);
+                return (ResponseEntity<T>) replay(stored);
+            } catch (TimeoutException e) {
+                return (ResponseEntity<T>) ResponseEntity.status(HttpStatus.CONFLICT).build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return (ResponseEntity<T>) ResponseEntity.status(HttpStatus.CONFLICT).build();
+            } catch (Exception e) {
+                // 첫 요청이 실패해 키가 비워졌으면 다시 시도
+                return execute(scope, key, fingerprint, action);
+            }
+        }
+
+        try {
+            ResponseEntity<T> response = action.get();
+            if (response.getStatusCode().is2xxSuccessful()) {
+                entry.response.complete(response);
+            } else {
+                release(storeKey, entry, new IllegalStateException("요청 처리 실패: " + response.getStatusCode()));
+            }
+            return response;
+        } catch (RuntimeException e) {
+            release(storeKey, entry, e);
+            throw e;
+        }
+    }
+
+    // 만료된 완료 항목 정리
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed;
+        synchronized (this) {
+            int before = entries.size();
+            entries.values().removeIf(entry -> entry.isExpired(now) && entry.response.isDone());
+            removed = before - entries.size();
+        }
+        if (removed > 0) {
+            log.debug("만료된 멱등 키 정리: {}건", removed);
+        }
+    }
+
+    private void release(String storeKey, Entry entry, Exception cause) {
+        synchronized (this) {
+            entries.remove(storeKey, entry);
+        }
+        entry.response.completeExceptionally(cause);
+    }
+
+    private static ResponseEntity<?> replay(ResponseEntity<?> stored) {
+        return ResponseEntity.status(stored.getStatusCode())
+                .headers(headers -> headers.addAll(stored.getHeaders()))
+                .header(REPLAYED_HEADER, "true")
+                .body(stored.getBody());
+    }
+
+    private static class Entry {
+        private final long expiresAt;
+        private final String fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(long expiresAt, String fingerprint) {
+            this.expiresAt = expiresAt;
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.fishiphedia.common.util;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class GeoUtil {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // 위도 1도에 해당하는 거리 (km)
+    public static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180.0;
+
+    /**
+     * 두 좌표 사이의 대원 거리 (haversine, km)
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public static void validateCoordinate(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("올바르지 않은 좌표입니다.");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.fishiphedia.common.util;
+
+import lombok.experimental.UtilityClass;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+@UtilityClass
+public class ImageHashUtil {
+
+    /**
+     * 이미지 유사도 비교용 지각 해시 (dHash, 64bit)
+     * 9x8 흑백 축소 이미지에서 가로로 인접한 픽셀의 밝기 증감을 비트로 기록한다.
+     * 리사이즈/재압축된 같은 사진은 해밍 거리가 작게 나온다.
+     */
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+    private static final int SAMPLE_SCALE = 8; // 1차 축소 배율 (블록 평균으로 앨리어싱 완화)
+
+    /**
+     * 이미지 바이트로부터 dHash 계산
+     * @return 64bit 해시, 디코딩할 수 없는 포맷이면 null
+     */
+    public static Long calculateDHash(byte[] imageData) {
+        if (imageData == null || imageData.length == 0) {
+            return null;
+        }
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(imageData));
+        } catch (IOException e) {
+            return null;
+        }
+        if (image == null) {
+            return null;
+        }
+        return calculateDHash(image);
+    }
+
+    public static long calculateDHash(BufferedImage image) {
+        int sampleWidth = HASH_WIDTH * SAMPLE_SCALE;
+        int sampleHeight = HASH_HEIGHT * SAMPLE_SCALE;
+
+        // 1. 흑백으로 1차 축소
+        BufferedImage sample = new BufferedImage(sampleWidth, sampleHeight, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = sample.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, sampleWidth, sampleHeight, null);
+        } finally {
+            g.dispose();
+        }
+
+        // 2. 블록 평균으로 9x8 밝기 행렬 생성
+        Raster raster = sample.getRaster();
+        int[][] luminance = new int[HASH_HEIGHT][HASH_WIDTH];
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH; x++) {
+                int sum = 0;
+                for (int dy = 0; dy < SAMPLE_SCALE; dy++) {
+                    for (int dx = 0; dx < SAMPLE_SCALE; dx++) {
+                        sum += raster.getSample(x * SAMPLE_SCALE + dx, y * SAMPLE_SCALE + dy, 0);
+                    }
+                }
+                luminance[y][x] = sum;
+            }
+        }
+
+        // 3. 인접 픽셀 비교로 64bit 생성
+        long hash = 0L;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (luminance[y][x] > luminance[y][x + 1]) {
+                    hash |= 1L;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 두 해시의 해밍 거리 (0~64)
+     */
+    public static int hammingDistance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
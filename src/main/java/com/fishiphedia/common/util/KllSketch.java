@@ -0,0 +1,281 @@
+package com.fishiphedia.common.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * KLL 분위수 스케치 (Karnin, Lang, Liberty 2016).
+ * 레벨 h의 값은 가중치 2^h를 가지며, 레벨이 용량을 넘으면 정렬 후 절반만 다음 레벨로 올린다.
+ * 보관 개수는 표본 수와 무관하게 약 3k개로 제한되고, 순위 오차는 대략 1.7/k 수준이다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ */
+public class KllSketch {
+
+    private static final int SERIAL_VERSION = 1;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final List<float[]> levels = new ArrayList<>();
+    private final List<Integer> levelSizes = new ArrayList<>();
+    private long n;
+    private int retained;
+    private float min = Float.NaN;
+    private float max = Float.NaN;
+
+    public KllSketch(int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k는 8 이상이어야 합니다.");
+        }
+        this.k = k;
+        addLevel();
+    }
+
+    public void update(double value) {
+        float v = (float) value;
+        if (Float.isNaN(v)) {
+            return;
+        }
+        min = Float.isNaN(min) ? v : Math.min(min, v);
+        max = Float.isNaN(max) ? v : Math.max(max, v);
+        append(0, v);
+        n++;
+        retained++;
+        compress();
+    }
+
+    /**
+     * 다른 스케치를 합친다 (같은 k 권장)
+     */
+    public void merge(KllSketch other) {
+        if (other.n == 0) {
+            return;
+        }
+        while (levels.size() < other.levels.size()) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            float[] items = other.levels.get(h);
+            int size = other.levelSizes.get(h);
+            for (int i = 0; i < size; i++) {
+                append(h, items[i]);
+            }
+            retained += size;
+        }
+        n += other.n;
+        min = Float.isNaN(min) ? other.min : Math.min(min, other.min);
+        max = Float.isNaN(max) ? other.max : Math.max(max, other.max);
+        compress();
+    }
+
+    /**
+     * value 이하인 표본의 비율 추정치 (0.0 ~ 1.0)
+     */
+    public double rank(double value) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        if (value < min) {
+            return 0.0;
+        }
+        if (value >= max) {
+            return 1.0;
+        }
+        long weight = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            float[] items = levels.get(h);
+            int size = levelSizes.get(h);
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                if (items[i] <= value) {
+                    count++;
+                }
+            }
+            weight += count << h;
+        }
+        return Math.min(1.0, (double) weight / totalWeight());
+    }
+
+    /**
+     * 분위수 추정치 (fraction: 0.0 ~ 1.0)
+     */
+    public double quantile(double fraction) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        if (fraction <= 0) {
+            return min;
+        }
+        if (fraction >= 1) {
+            return max;
+        }
+        float[] values = new float[retained];
+        long[] weights = new long[retained];
+        int idx = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            float[] items = levels.get(h);
+            int size = levelSizes.get(h);
+            for (int i = 0; i < size; i++) {
+                values[idx] = items[i];
+                weights[idx] = 1L << h;
+                idx++;
+            }
+        }
+        Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(values[a], values[b]));
+        double target = fraction * totalWeight();
+        long cumulative = 0;
+        for (Integer i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    public long getN() {
+        return n;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public int getRetained() {
+        return retained;
+    }
+
+    public byte[] toByteArray() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + retained * 4 + levels.size() * 4);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(SERIAL_VERSION);
+            out.writeInt(k);
+            out.writeLong(n);
+            out.writeFloat(min);
+            out.writeFloat(max);
+            out.writeInt(levels.size());
+            for (int h = 0; h < levels.size(); h++) {
+                float[] items = levels.get(h);
+                int size = levelSizes.get(h);
+                out.writeInt(size);
+                for (int i = 0; i < size; i++) {
+                    out.writeFloat(items[i]);
+                }
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("스케치 직렬화 실패", e);
+        }
+    }
+
+    public static KllSketch fromByteArray(byte[] data) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            int version = in.readByte();
+            if (version != SERIAL_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스케치 버전입니다: " + version);
+            }
+            KllSketch sketch = new KllSketch(in.readInt());
+            sketch.n = in.readLong();
+            sketch.min = in.readFloat();
+            sketch.max = in.readFloat();
+            int levelCount = in.readInt();
+            while (sketch.levels.size() < levelCount) {
+                sketch.addLevel();
+            }
+            for (int h = 0; h < levelCount; h++) {
+                int size = in.readInt();
+                for (int i = 0; i < size; i++) {
+                    sketch.append(h, in.readFloat());
+                }
+                sketch.retained += size;
+            }
+            return sketch;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("스케치 역직렬화 실패", e);
+        }
+    }
+
+    private long totalWeight() {
+        long weight = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            weight += (long) levelSizes.get(h) << h;
+        }
+        return weight;
+    }
+
+    private int capacity(int level) {
+        int depth = levels.size() - level - 1;
+        return (int) Math.ceil(Math.pow(CAPACITY_DECAY, depth) * k) + 1;
+    }
+
+    private int maxRetained() {
+        int total = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            total += capacity(h);
+        }
+        return total;
+    }
+
+    private void addLevel() {
+        levels.add(new float[8]);
+        levelSizes.add(0);
+    }
+
+    private void append(int level, float value) {
+        float[] items = levels.get(level);
+        int size = levelSizes.get(level);
+        if (size == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            levels.set(level, items);
+        }
+        items[size] = value;
+        levelSizes.set(level, size + 1);
+    }
+
+    // 용량을 넘은 가장 낮은 레벨을 압축해 절반을 상위 레벨로 올림
+    private void compress() {
+        while (retained >= maxRetained()) {
+            for (int h = 0; h < levels.size(); h++) {
+                if (levelSizes.get(h) >= capacity(h)) {
+                    if (h + 1 >= levels.size()) {
+                        addLevel();
+                    }
+                    compactLevel(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void compactLevel(int level) {
+        float[] items = levels.get(level);
+        int size = levelSizes.get(level);
+        // 홀수 개면 마지막 하나는 현재 레벨에 남김
+        int compactSize = size - (size % 2);
+        Arrays.sort(items, 0, size);
+        float leftover = items[size - 1];
+        int offset = ThreadLocalRandom.current().nextBoolean() ? 1 : 0;
+        for (int i = offset; i < compactSize; i += 2) {
+            append(level + 1, items[i]);
+        }
+        int remaining = size - compactSize;
+        if (remaining == 1) {
+            items[0] = leftover;
+        }
+        levelSizes.set(level, remaining);
+        retained -= compactSize / 2;
+    }
+}
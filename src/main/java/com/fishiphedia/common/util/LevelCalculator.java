@@ -15,36 +15,21 @@ public class LevelCalculator {
      * 레벨 5: 1000-1499점
      * ...
      * 레벨 N: (N-1)*100 + (N-1)*(N-2)*50 ~ (N*100 + N*(N-1)*50 - 1)
+     * 즉 레벨 N의 최소 점수는 50*N*(N-1) 이며, QuadraticLevelCurve가 이를 역산해 O(1)로 계산한다.
      */
     
     /**
-     * 총 점수로부터 레벨과 진행률을 계산
+     * 총 점수로부터 레벨과 진행률을 계산 (기본 곡선, O(1))
      */
     public static LevelInfo calculateLevel(int totalScore) {
-        if (totalScore < 0) totalScore = 0;
-        
-        int level = 1;
-        int currentLevelMinScore = 0;
-        int nextLevelMinScore = 100;
-        
-        // 레벨 계산
-        while (totalScore >= nextLevelMinScore) {
-            level++;
-            currentLevelMinScore = nextLevelMinScore;
-            nextLevelMinScore = level * 100 + level * (level - 1) * 50;
-        }
-        
-        // 현재 레벨에서의 진행률 계산 (0.0 ~ 1.0)
-        double progress = 0.0;
-        if (level > 1) {
-            int levelScoreRange = nextLevelMinScore - currentLevelMinScore;
-            int currentLevelScore = totalScore - currentLevelMinScore;
-            progress = (double) currentLevelScore / levelScoreRange;
-        } else {
-            progress = (double) totalScore / 100.0;
-        }
-        
-        return new LevelInfo(level, progress);
+        return calculateLevel(LevelCurveType.FISH_COLLECTION, totalScore);
+    }
+    
+    /**
+     * 랭킹 종류별 곡선으로 레벨과 진행률을 계산
+     */
+    public static LevelInfo calculateLevel(LevelCurveType type, long totalScore) {
+        return type.getCurve().levelInfo(totalScore);
     }
     
     /**
@@ -0,0 +1,33 @@
+package com.fishiphedia.common.util;
+
+/**
+ * 총점 → 레벨 변환 곡선.
+ * thresholdOf(level)은 해당 레벨에 도달하기 위한 최소 점수이며 레벨 1은 항상 0점이다.
+ */
+public interface LevelCurve {
+
+    /**
+     * 총점에 해당하는 레벨 (1부터 시작)
+     */
+    int levelOf(long totalScore);
+
+    /**
+     * 레벨에 도달하기 위한 최소 점수
+     */
+    long thresholdOf(int level);
+
+    /**
+     * 레벨과 현재 레벨 내 진행률 (0.0 ~ 1.0)
+     */
+    default LevelCalculator.LevelInfo levelInfo(long totalScore) {
+        long score = Math.max(0, totalScore);
+        int level = levelOf(score);
+        long currentMin = thresholdOf(level);
+        long nextMin = thresholdOf(level + 1);
+        if (nextMin <= currentMin) {
+            // 최고 레벨 도달
+            return new LevelCalculator.LevelInfo(level, 1.0);
+        }
+        return new LevelCalculator.LevelInfo(level, (double) (score - currentMin) / (nextMin - currentMin));
+    }
+}
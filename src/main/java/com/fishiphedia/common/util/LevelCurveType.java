@@ -0,0 +1,21 @@
+package com.fishiphedia.common.util;
+
+/**
+ * 랭킹 종류별 레벨 곡선
+ */
+public enum LevelCurveType {
+    // 물고기 도감(종별) 레벨
+    FISH_COLLECTION(new QuadraticLevelCurve(100)),
+    // 사용자 전체 레벨
+    FISHER(new QuadraticLevelCurve(100));
+
+    private final LevelCurve curve;
+
+    LevelCurveType(LevelCurve curve) {
+        this.curve = curve;
+    }
+
+    public LevelCurve getCurve() {
+        return curve;
+    }
+}
@@ -0,0 +1,44 @@
+package com.fishiphedia.common.util;
+
+/**
+ * 레벨 L의 최소 점수가 T(L) = step · L(L-1) / 2 인 곡선 (레벨 L → L+1 구간 폭은 step · L).
+ * 기본 곡선(step = 100)은 100, 300, 600, 1000, ... 점에서 레벨이 오른다.
+ *
+ * T(L) ≤ s 를 만족하는 최대 L은 L = ⌊(1 + √(1 + 8s/step)) / 2⌋ 이므로
+ * 반복 없이 O(1)로 계산하고, 부동소수 오차만 정수 비교로 보정한다.
+ */
+public class QuadraticLevelCurve implements LevelCurve {
+
+    private final long step;
+
+    public QuadraticLevelCurve(long step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("레벨 구간 폭은 0보다 커야 합니다.");
+        }
+        this.step = step;
+    }
+
+    @Override
+    public int levelOf(long totalScore) {
+        if (totalScore <= 0) {
+            return 1;
+        }
+        int level = (int) ((1 + Math.sqrt(1 + 8.0 * totalScore / step)) / 2);
+        // sqrt 반올림 오차 보정 (최대 한두 번)
+        while (thresholdOf(level + 1) <= totalScore) {
+            level++;
+        }
+        while (level > 1 && thresholdOf(level) > totalScore) {
+            level--;
+        }
+        return level;
+    }
+
+    @Override
+    public long thresholdOf(int level) {
+        if (level <= 1) {
+            return 0;
+        }
+        return step * level * (level - 1L) / 2;
+    }
+}
@@ -0,0 +1,69 @@
+package com.fishiphedia.common.util;
+
+/**
+ * Welford 알고리즘 기반 온라인 평균/분산.
+ * 값 하나를 O(1)로 반영하며 수치적으로 안정적이다. 두 집계는 Chan 공식으로 합칠 수 있다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ */
+public class RunningStatistics {
+
+    private long count;
+    private double mean;
+    private double m2;
+
+    public RunningStatistics() {
+    }
+
+    public RunningStatistics(long count, double mean, double m2) {
+        this.count = count;
+        this.mean = mean;
+        this.m2 = m2;
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    public void merge(RunningStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getM2() {
+        return m2;
+    }
+
+    /**
+     * 표본 분산 (표본이 2개 미만이면 0)
+     */
+    public double getVariance() {
+        return count > 1 ? m2 / (count - 1) : 0.0;
+    }
+
+    public double getStdDeviation() {
+        return Math.sqrt(getVariance());
+    }
+}
@@ -0,0 +1,56 @@
+package com.fishiphedia.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 레벨별 최소 점수 표를 이진 탐색하는 곡선 (O(log 최대레벨)).
+ * 공식으로 표현하기 어려운 임의의 곡선이나, 다른 곡선을 미리 계산해 둘 때 사용한다.
+ * 표의 마지막 레벨이 최고 레벨이다.
+ */
+public class ThresholdTableLevelCurve implements LevelCurve {
+
+    // thresholds[i] = 레벨 i+1의 최소 점수 (thresholds[0] = 0, 오름차순)
+    private final long[] thresholds;
+
+    public ThresholdTableLevelCurve(long[] thresholds) {
+        if (thresholds.length == 0 || thresholds[0] != 0) {
+            throw new IllegalArgumentException("레벨 1의 최소 점수는 0이어야 합니다.");
+        }
+        for (int i = 1; i < thresholds.length; i++) {
+            if (thresholds[i] <= thresholds[i - 1]) {
+                throw new IllegalArgumentException("레벨별 최소 점수는 증가해야 합니다.");
+            }
+        }
+        this.thresholds = thresholds.clone();
+    }
+
+    /**
+     * 다른 곡선의 1 ~ maxLevel 최소 점수를 미리 계산한 표
+     */
+    public static ThresholdTableLevelCurve precompute(LevelCurve curve, int maxLevel) {
+        long[] thresholds = new long[maxLevel];
+        for (int level = 1; level <= maxLevel; level++) {
+            thresholds[level - 1] = curve.thresholdOf(level);
+        }
+        return new ThresholdTableLevelCurve(thresholds);
+    }
+
+    @Override
+    public int levelOf(long totalScore) {
+        int index = Arrays.binarySearch(thresholds, Math.max(0, totalScore));
+        // 정확히 일치하면 그 레벨, 아니면 삽입 위치 바로 앞 레벨
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    @Override
+    public long thresholdOf(int level) {
+        if (level <= 1) {
+            return 0;
+        }
+        return thresholds[Math.min(level, thresholds.length) - 1];
+    }
+
+    public int getMaxLevel() {
+        return thresholds.length;
+    }
+}
@@ -6,11 +6,13 @@ import com.fishiphedia.classification.entity.ClassificationLog;
 import com.fishiphedia.classification.service.ClassificationLogService;
 import com.fishiphedia.classification.service.ClassificationStorageService;
 import com.fishiphedia.common.service.FishClassificationService;
+import com.fishiphedia.common.service.IdempotencyStore;
 import com.fishiphedia.common.util.JwtUtil;
 import com.fishiphedia.user.entity.User;
 import com.fishiphedia.user.repository.UserRepository;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -26,26 +28,60 @@ public class FishClassificationController {
     private final ClassificationLogService classificationLogService;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final IdempotencyStore idempotencyStore;
 
     public FishClassificationController(
             FishClassificationService fishClassificationService,
             ClassificationStorageService classificationStorageService,
             ClassificationLogService classificationLogService,
             JwtUtil jwtUtil,
-            UserRepository userRepository
+            UserRepository userRepository,
+            IdempotencyStore idempotencyStore
     ) {
         this.fishClassificationService = fishClassificationService;
         this.classificationStorageService = classificationStorageService;
         this.classificationLogService = classificationLogService;
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @PostMapping(value = "/predict", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> classifyFish(
             @RequestParam("file") MultipartFile file,
-            @RequestHeader(value = "Authorization", required = false) String token
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
     ) {
+        // 같은 키로 재시도하면 분류 로그를 새로 만들지 않고 저장된 결과를 반환
+        // 분류 로그를 귀속시키는 JWT 사용자 기준으로 범위를 나누고, 비로그인 요청은 서로 구분할 수 없으므로 멱등 처리하지 않음
+        String loginId = resolveLoginId(token);
+        if (loginId == null) {
+            return classify(file, token);
+        }
+        try {
+            // 같은 키를 다른 이미지로 재사용하면 거절
+            String fingerprint = DigestUtils.md5DigestAsHex(file.getInputStream());
+            return idempotencyStore.execute("classification-predict:" + loginId, idempotencyKey, fingerprint,
+                    () -> classify(file, token));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("이미지 파일 처리 실패");
+        }
+    }
+
+    // 토큰의 로그인 아이디 (토큰이 없거나 올바르지 않으면 null)
+    private String resolveLoginId(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String actualToken = token.startsWith("Bearer ") ? token.substring(7) : token;
+            return jwtUtil.getLoginIdFromToken(actualToken);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private ResponseEntity<Object> classify(MultipartFile file, String token) {
         try {
             // 파일 유효성 검사
             if (file.isEmpty()) {
@@ -3,6 +3,7 @@ package com.fishiphedia.fish.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +21,9 @@ import com.fishiphedia.common.service.FileUploadService;
 import com.fishiphedia.fish.dto.FishRequest;
 import com.fishiphedia.fish.dto.FishResponse;
 import com.fishiphedia.fish.dto.FishAverageScoreResponse;
+import com.fishiphedia.fish.dto.FishRescoreStatusResponse;
+import com.fishiphedia.fish.service.FishLengthDistributionService;
+import com.fishiphedia.fish.service.FishRescoreService;
 import com.fishiphedia.fish.service.FishService;
 import com.fishiphedia.fish.service.FastApiService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -43,12 +47,15 @@ public class FishController {
     private final FishService fishService;
     private final FileUploadService fileUploadService;
     private final FastApiService fastApiService;
+    private final FishLengthDistributionService fishLengthDistributionService;
+    private final FishRescoreService fishRescoreService;
 
     // 물고기 목록 조회
     @GetMapping
-    public ResponseEntity<List<FishResponse>> getAllFish() {
-        List<FishResponse> fishList = fishService.getAllFish();
-        return ResponseEntity.ok(fishList);
+    public ResponseEntity<byte[]> getAllFish() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(fishService.getAllFishJson());
     }
 
     // 물고기 상세 조회
@@ -95,6 +102,39 @@ public class FishController {
         }
     }
 
+    // 검증된 조과 통계로 어종 평균 길이/표준편차 보정 (정기 작업 즉시 실행)
+    @PostMapping("/calibrate")
+    public ResponseEntity<?> calibrateFishParameters() {
+        try {
+            int calibrated = fishLengthDistributionService.calibrateFishParameters();
+            return ResponseEntity.ok(Map.of("calibratedCount", calibrated));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 어종 기존 일지 점수 재계산 요청 (파라미터 수정 시 자동 실행, 수동 재실행용)
+    @PostMapping("/{id}/rescore")
+    public ResponseEntity<?> rescoreFish(@PathVariable Long id) {
+        try {
+            fishService.getFishById(id);
+            fishRescoreService.requestRescore(id);
+            return ResponseEntity.ok(Map.of("fishId", id, "message", "점수 재계산이 시작되었습니다."));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 어종 점수 재계산 진행 상황
+    @GetMapping("/{id}/rescore")
+    public ResponseEntity<FishRescoreStatusResponse> getRescoreStatus(@PathVariable Long id) {
+        FishRescoreStatusResponse status = fishRescoreService.getStatus(id);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(status);
+    }
+
     // 점수 계산 API (FastAPI 연동)
     @PostMapping("/calculate-score")
     public ResponseEntity<?> calculateScore(
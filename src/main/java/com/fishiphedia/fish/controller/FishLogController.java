@@ -1,19 +1,27 @@
 package com.fishiphedia.fish.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fishiphedia.fish.dto.*;
 import com.fishiphedia.fish.entity.FishCollection;
 import com.fishiphedia.fish.service.FishCollectionService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import jakarta.servlet.http.HttpServletRequest;
 
 import com.fishiphedia.common.service.FileUploadService;
+import com.fishiphedia.common.service.IdempotencyStore;
 import com.fishiphedia.fish.entity.FishLog;
 import com.fishiphedia.fish.service.FishLogService;
 import com.fishiphedia.user.entity.User;
@@ -37,62 +45,142 @@ public class FishLogController {
     private final FishCollectionService fishCollectionService;
     private final SearchLogService searchLogService;
     private final FishService fishService;
+    private final IdempotencyStore idempotencyStore;
 
 
     // 낚시 일지 작성 (레벨 업데이트 포함)
     @PostMapping
     public ResponseEntity<FishLogCreateResponse> createFishLogWithLevel(
             @ModelAttribute FishLogRequest request,
-            @RequestParam(value = "image", required = false) MultipartFile image) {
+            @RequestParam(value = "image", required = false) MultipartFile image,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
         
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByLoginId(authentication.getName());
-        
-        // 이미지 업로드 처리
-        if (image != null && !image.isEmpty()) {
-            try {
-                log.info("이미지 업로드 시작 - 파일명: {}, 크기: {}", image.getOriginalFilename(), image.getSize());
-                String imgPath = fileUploadService.uploadFile(image);
-                request.setImgPath(imgPath);
-                log.info("이미지 업로드 성공: {}", imgPath);
-            } catch (Exception e) {
-                log.error("이미지 업로드 실패 - 파일명: {}, 에러: {}", image.getOriginalFilename(), e.getMessage(), e);
-                return ResponseEntity.badRequest().body(null);
-            }
-        } else {
-            log.info("업로드할 이미지 없음");
+        try {
+            // 같은 키로 재시도하면 저장된 응답을 그대로 반환 (일지 중복 생성/점수 중복 반영 방지), 다른 내용으로 재사용하면 거절
+            return idempotencyStore.execute("fish-log:" + authentication.getName(), idempotencyKey,
+                    fingerprint(request, image), () -> createWithLevel(request, image, authentication.getName()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(null);
         }
-        
-        FishLogCreateResponse response = fishLogService.createFishLogWithLevel(request, user);
-        return ResponseEntity.ok(response);
     }
 
     // 낚시 일지 작성 (레벨 업데이트 포함) - 새로운 엔드포인트
     @PostMapping("/with-level")
     public ResponseEntity<FishLogCreateResponse> createFishLogWithLevelNew(
             @ModelAttribute FishLogRequest request,
-            @RequestParam(value = "image", required = false) MultipartFile image) {
+            @RequestParam(value = "image", required = false) MultipartFile image,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
         
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByLoginId(authentication.getName());
-        
-        // 이미지 업로드 처리
-        if (image != null && !image.isEmpty()) {
-            try {
-                log.info("이미지 업로드 시작 - 파일명: {}, 크기: {}", image.getOriginalFilename(), image.getSize());
-                String imgPath = fileUploadService.uploadFile(image);
-                request.setImgPath(imgPath);
-                log.info("이미지 업로드 성공: {}", imgPath);
-            } catch (Exception e) {
-                log.error("이미지 업로드 실패 - 파일명: {}, 에러: {}", image.getOriginalFilename(), e.getMessage(), e);
-                return ResponseEntity.badRequest().body(null);
+        try {
+            // 같은 키로 재시도하면 저장된 응답을 그대로 반환 (일지 중복 생성/점수 중복 반영 방지), 다른 내용으로 재사용하면 거절
+            return idempotencyStore.execute("fish-log:" + authentication.getName(), idempotencyKey,
+                    fingerprint(request, image), () -> createWithLevel(request, image, authentication.getName()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    // 낚시 일지 일괄 업로드 (오프라인 동기화)
+    // logs 파트: 항목 JSON 배열, images 파트: 항목의 imageIndex 순번으로 참조하는 이미지들
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Object> createFishLogsBulk(
+            @RequestPart("logs") List<FishLogBulkItem> logs,
+            @RequestPart(value = "images", required = false) List<MultipartFile> images,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        try {
+            return idempotencyStore.execute("fish-log-bulk:" + authentication.getName(), idempotencyKey,
+                    bulkFingerprint(logs, images), () -> createBulk(logs, images, authentication.getName()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "이미지 파일 처리 실패"));
+        }
+    }
+
+    // 멱등 키 재사용 판별용 요청 지문 (요청 필드 + 이미지 해시)
+    private static String fingerprint(FishLogRequest request, MultipartFile image) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        appendFields(sb, request);
+        sb.append(imageDigest(image));
+        return DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String bulkFingerprint(List<FishLogBulkItem> logs, List<MultipartFile> images) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (FishLogBulkItem item : logs) {
+            appendFields(sb, item);
+            sb.append(item.getClientRef()).append('|')
+                    .append(item.getCollectAt()).append('|')
+                    .append(item.getImageIndex()).append('\n');
+        }
+        if (images != null) {
+            for (MultipartFile image : images) {
+                sb.append(imageDigest(image)).append('\n');
             }
-        } else {
-            log.info("업로드할 이미지 없음");
         }
-        
-        FishLogCreateResponse response = fishLogService.createFishLogWithLevel(request, user);
-        return ResponseEntity.ok(response);
+        return DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendFields(StringBuilder sb, FishLogRequest request) {
+        sb.append(request.getFishId()).append('|')
+                .append(request.getLength()).append('|')
+                .append(request.getPlace()).append('|')
+                .append(request.getReview()).append('|')
+                .append(request.getImgPath()).append('|')
+                .append(request.getClassificationLogId()).append('|');
+    }
+
+    private static String imageDigest(MultipartFile image) throws IOException {
+        if (image == null || image.isEmpty()) {
+            return "";
+        }
+        try (InputStream in = image.getInputStream()) {
+            return DigestUtils.md5DigestAsHex(in);
+        }
+    }
+
+    private ResponseEntity<Object> createBulk(List<FishLogBulkItem> logs, List<MultipartFile> images, String loginId) {
+        List<String> uploadedPaths = new ArrayList<>();
+        try {
+            User user = userService.findByLoginId(loginId);
+
+            // 항목 수/어종/길이/채집일 검증을 이미지 업로드보다 먼저 (실패한 항목은 업로드하지 않음)
+            fishLogService.validateFishLogsBulk(logs);
+
+            // 이미지 업로드 처리 (실패한 항목만 실패로 표시)
+            for (FishLogBulkItem item : logs) {
+                Integer imageIndex = item.getImageIndex();
+                if (imageIndex == null || item.getError() != null) {
+                    continue;
+                }
+                if (images == null || imageIndex < 0 || imageIndex >= images.size() || images.get(imageIndex).isEmpty()) {
+                    item.setError("이미지를 찾을 수 없습니다.");
+                    continue;
+                }
+                try {
+                    String imgPath = fileUploadService.uploadFile(images.get(imageIndex));
+                    uploadedPaths.add(imgPath);
+                    item.setImgPath(imgPath);
+                } catch (Exception e) {
+                    log.error("일괄 업로드 이미지 업로드 실패 - 항목: {}, 에러: {}", item.getClientRef(), e.getMessage());
+                    item.setError("이미지 업로드에 실패했습니다.");
+                }
+            }
+
+            FishLogBulkResponse response = fishLogService.createFishLogsBulk(logs, user);
+            // 저장되지 않은 항목의 이미지는 삭제
+            for (FishLogBulkItemResult result : response.getResults()) {
+                if (!result.isSuccess()) {
+                    fileUploadService.deleteFile(logs.get(result.getIndex()).getImgPath());
+                }
+            }
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            // 트랜잭션이 롤백되었으므로 업로드한 이미지도 모두 삭제
+            uploadedPaths.forEach(fileUploadService::deleteFile);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     // 사용자의 낚시 일지 목록 조회
@@ -144,6 +232,21 @@ public class FishLogController {
                 .build();
     }
 
+    // 사용자의 낚시 일지 타임라인 (커서 기반 페이지)
+    @GetMapping("/timeline")
+    public ResponseEntity<?> getMyFishLogTimeline(
+            @RequestParam(value = "fishId", required = false) Long fishId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            User user = userService.findByLoginId(authentication.getName());
+            return ResponseEntity.ok(fishLogService.getUserFishLogTimeline(user, fishId, cursor, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // 특정 낚시 일지 조회
     @GetMapping("/{id}")
     public ResponseEntity<FishLogResponse> getFishLog(@PathVariable Long id) {
@@ -167,6 +270,28 @@ public class FishLogController {
         return ResponseEntity.ok(isVerified);
     }
 
+    private ResponseEntity<FishLogCreateResponse> createWithLevel(FishLogRequest request, MultipartFile image, String loginId) {
+        User user = userService.findByLoginId(loginId);
+        
+        // 이미지 업로드 처리
+        if (image != null && !image.isEmpty()) {
+            try {
+                log.info("이미지 업로드 시작 - 파일명: {}, 크기: {}", image.getOriginalFilename(), image.getSize());
+                String imgPath = fileUploadService.uploadFile(image);
+                request.setImgPath(imgPath);
+                log.info("이미지 업로드 성공: {}", imgPath);
+            } catch (Exception e) {
+                log.error("이미지 업로드 실패 - 파일명: {}, 에러: {}", image.getOriginalFilename(), e.getMessage(), e);
+                return ResponseEntity.badRequest().body(null);
+            }
+        } else {
+            log.info("업로드할 이미지 없음");
+        }
+        
+        FishLogCreateResponse response = fishLogService.createFishLogWithLevel(request, user);
+        return ResponseEntity.ok(response);
+    }
+
     private FishLogResponse convertToResponse(FishLog fishLog) {
         return FishLogResponse.builder()
                 .id(fishLog.getId())
@@ -1,14 +1,19 @@
 package com.fishiphedia.fish.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
 
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class FishCollectionResponse {
     private Long fishId;
+    private String fishName;
     private Boolean isCollect;
     private Integer highestScore;
     private Double highestLength;
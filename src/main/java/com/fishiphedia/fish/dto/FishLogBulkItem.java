@@ -0,0 +1,23 @@
+package com.fishiphedia.fish.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 오프라인 일괄 업로드 항목 (낚시 일지 작성 요청 + 단말 식별값/실제 채집일/이미지 위치)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FishLogBulkItem extends FishLogRequest {
+    private String clientRef;     // 단말에서 붙인 항목 식별값 (결과 매칭용)
+    private LocalDate collectAt;  // 실제 채집일 (없으면 업로드 날짜)
+    private Integer imageIndex;   // images 파트 중 이 항목의 이미지 순번
+
+    @JsonIgnore
+    private String error;         // 항목 실패 사유 (업로드 전 검증 또는 이미지 업로드 실패)
+}
@@ -0,0 +1,20 @@
+package com.fishiphedia.fish.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FishLogBulkItemResult {
+    private int index;
+    private String clientRef;
+    private boolean success;
+    private Long fishLogId;
+    private Long fishId;
+    private Integer score;
+    private String error;
+}
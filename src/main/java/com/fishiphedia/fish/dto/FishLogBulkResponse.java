@@ -0,0 +1,20 @@
+package com.fishiphedia.fish.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FishLogBulkResponse {
+    private int succeeded;
+    private int failed;
+    private List<FishLogBulkItemResult> results;
+    private Map<Long, LevelUpdateResult> levelUpdates; // 물고기 id별 도감 레벨 변화
+}
@@ -0,0 +1,27 @@
+package com.fishiphedia.fish.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 낚시 일지 타임라인 행 (후기 본문 제외)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FishLogSummaryResponse {
+    private Long id;
+    private Long fishId;
+    private String fishName;
+    private LocalDate collectAt;
+    private Double length;
+    private Integer score;
+    private String place;
+    private String imgPath;
+    private Boolean certified;
+}
@@ -0,0 +1,18 @@
+package com.fishiphedia.fish.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FishLogTimelineResponse {
+    private List<FishLogSummaryResponse> fishLogs;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+    private boolean hasNext;
+}
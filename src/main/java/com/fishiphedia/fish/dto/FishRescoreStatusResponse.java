@@ -0,0 +1,21 @@
+package com.fishiphedia.fish.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class FishRescoreStatusResponse {
+    private Long fishId;
+    private String status; // QUEUED, RESCORING, REBUILDING, COMPLETED, FAILED
+    private Long totalLogs;
+    private Long processedLogs;
+    private Long changedLogs;
+    private Double logsPerSecond;
+    private Long rankingRebuildJobId;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
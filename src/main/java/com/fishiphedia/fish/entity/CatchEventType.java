@@ -0,0 +1,6 @@
+package com.fishiphedia.fish.entity;
+
+public enum CatchEventType {
+    CATCH_CREATED,
+    CATCH_VERIFIED
+}
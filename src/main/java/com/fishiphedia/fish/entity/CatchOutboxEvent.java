@@ -0,0 +1,88 @@
+package com.fishiphedia.fish.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조과 후속 처리 아웃박스 (낚시 일지와 같은 트랜잭션에서 기록, 소비자가 따로 반영)
+ */
+@Entity
+@Table(
+    name = "catch_outbox",
+    indexes = {
+        @Index(name = "idx_co_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_co_fish_log", columnList = "fish_log_id")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class CatchOutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private CatchEventType eventType;
+    
+    @Column(name = "fish_log_id", nullable = false)
+    private Long fishLogId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "fish_id", nullable = false)
+    private Long fishId;
+    
+    @Column(name = "score", nullable = false)
+    private Integer score;
+    
+    @Column(name = "length")
+    private Double length;
+    
+    @Column(name = "classification_log_id")
+    private Long classificationLogId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CatchOutboxStatus status = CatchOutboxStatus.PENDING;
+    
+    // 완료된 소비자 비트 (CatchOutboxHandler.bit), 소비자별로 따로 재시도
+    @Column(name = "completed_handlers", nullable = false)
+    private Integer completedHandlers = 0;
+    
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+    
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+    
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+    
+    @Column(name = "create_at", nullable = false)
+    private LocalDateTime createAt;
+    
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createAt;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.fishiphedia.fish.entity;
+
+public enum CatchOutboxStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
@@ -18,10 +18,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import jakarta.persistence.Index;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
 @Table(
     name = "fish_collection",
+    // 사용자당 물고기 종류별 도감 레코드는 하나 (upsert 기준 키)
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fc_user_fish", columnNames = {"user_id", "fish_id"})
+    },
     indexes = {
         @Index(name = "idx_fish_id", columnList = "fish_id"),
         @Index(name = "idx_highest_score", columnList = "highest_score"),
@@ -0,0 +1,64 @@
+package com.fishiphedia.fish.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 어종별 검증된 길이 분포 (KLL 분위수 스케치와 Welford 누적 통계)
+ */
+@Entity
+@Table(name = "fish_length_distribution")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FishLengthDistribution {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fish_id", nullable = false, unique = true)
+    private Fish fish;
+    
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount = 0L;
+    
+    @Lob
+    @Column(name = "sketch", nullable = false, columnDefinition = "BLOB")
+    private byte[] sketch;
+    
+    // Welford 누적 통계 (평균/표준편차 자동 보정용)
+    @Column(name = "length_count")
+    private Long lengthCount = 0L;
+    
+    @Column(name = "length_mean")
+    private Double lengthMean = 0.0;
+    
+    @Column(name = "length_m2")
+    private Double lengthM2 = 0.0;
+    
+    @Column(name = "update_at")
+    private LocalDateTime updateAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updateAt = LocalDateTime.now();
+    }
+}
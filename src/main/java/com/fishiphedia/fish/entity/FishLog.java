@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,7 +19,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "fish_log")
+@Table(
+    name = "fish_log",
+    indexes = {
+        @Index(name = "idx_fish_log_user_collect_at_id", columnList = "user_id, collect_at, id")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
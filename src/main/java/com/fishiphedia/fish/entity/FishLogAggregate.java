@@ -0,0 +1,55 @@
+package com.fishiphedia.fish.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 어종별 낚시 일지 집계 (일지 생성/점수 재계산 시 증분 갱신)
+ */
+@Entity
+@Table(name = "fish_log_aggregate")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FishLogAggregate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fish_id", nullable = false, unique = true)
+    private Fish fish;
+    
+    @Column(name = "log_count", nullable = false)
+    private Long logCount = 0L;
+    
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum = 0L;
+    
+    @Column(name = "length_sum", nullable = false)
+    private Double lengthSum = 0.0;
+    
+    @Column(name = "update_at")
+    private LocalDateTime updateAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updateAt = LocalDateTime.now();
+    }
+}
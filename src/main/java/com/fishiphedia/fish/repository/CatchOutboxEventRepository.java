@@ -0,0 +1,12 @@
+package com.fishiphedia.fish.repository;
+
+import com.fishiphedia.fish.entity.CatchOutboxEvent;
+import com.fishiphedia.fish.entity.CatchOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatchOutboxEventRepository extends JpaRepository<CatchOutboxEvent, Long> {
+    
+    long countByStatus(CatchOutboxStatus status);
+}
@@ -1,10 +1,15 @@
 package com.fishiphedia.fish.repository;
 
+import com.fishiphedia.fish.dto.FishCollectionResponse;
 import com.fishiphedia.fish.entity.Fish;
 import com.fishiphedia.fish.entity.FishCollection;
 import com.fishiphedia.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,5 +18,69 @@ public interface FishCollectionRepository extends JpaRepository<FishCollection,
     List<FishCollection> findByFishIdOrderByHighestScoreDesc(Long fishId);
     Optional<FishCollection> findByUserAndFish(User user, Fish fish);
 
+    // 내 도감 화면 (어종 정보까지 한 번의 조인 쿼리로, 진행도는 백분율)
+    @Query("SELECT new com.fishiphedia.fish.dto.FishCollectionResponse(f.id, f.name, fc.isCollect, fc.highestScore, " +
+           "fc.highestLength, fc.collectAt, fc.totalScore, fc.level, fc.currentLevelProgress * 100) " +
+           "FROM FishCollection fc JOIN fc.fish f JOIN fc.user u WHERE u.loginId = :loginId ORDER BY f.id")
+    List<FishCollectionResponse> findResponsesByLoginId(@Param("loginId") String loginId);
 
+    // 사용자 도감 초기화 (아직 없는 어종만 한 번에 생성, 동시 요청과 겹쳐도 유니크 키 기준으로 무시)
+    @Modifying
+    @Query(value = "INSERT INTO fish_collection (user_id, fish_id, is_collect, highest_score, highest_length, " +
+                   "total_score, level, current_level_progress) " +
+                   "SELECT :userId, f.id, FALSE, 0, 0.0, 0, 1, 0 FROM fish f " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM fish_collection fc WHERE fc.user_id = :userId AND fc.fish_id = f.id) " +
+                   "ON DUPLICATE KEY UPDATE user_id = fish_collection.user_id",
+           nativeQuery = true)
+    int insertMissingForUser(@Param("userId") Long userId);
+
+    // 조과 반영 (없으면 생성, 있으면 최고 점수/길이만 원자적으로 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO fish_collection (user_id, fish_id, is_collect, collect_at, highest_score, highest_length, " +
+                   "total_score, level, current_level_progress) " +
+                   "VALUES (:userId, :fishId, TRUE, :collectAt, :score, :length, 0, 1, 0) " +
+                   "ON DUPLICATE KEY UPDATE is_collect = TRUE, collect_at = COALESCE(collect_at, VALUES(collect_at)), " +
+                   "highest_score = GREATEST(COALESCE(highest_score, 0), VALUES(highest_score)), " +
+                   "highest_length = GREATEST(COALESCE(highest_length, 0), COALESCE(VALUES(highest_length), 0))",
+           nativeQuery = true)
+    int upsertCatch(@Param("userId") Long userId, @Param("fishId") Long fishId, @Param("collectAt") LocalDate collectAt,
+                    @Param("score") int score, @Param("length") Double length);
+
+    // 일괄 업로드 조과 반영 (같은 물고기 여러 건을 합친 최고 기록/총점 증분을 한 번에)
+    @Modifying
+    @Query(value = "INSERT INTO fish_collection (user_id, fish_id, is_collect, collect_at, highest_score, highest_length, " +
+                   "total_score, level, current_level_progress) " +
+                   "VALUES (:userId, :fishId, TRUE, :collectAt, :highestScore, :highestLength, :totalScore, 1, 0) " +
+                   "ON DUPLICATE KEY UPDATE is_collect = TRUE, collect_at = COALESCE(collect_at, VALUES(collect_at)), " +
+                   "highest_length = IF(VALUES(highest_score) > COALESCE(highest_score, 0), VALUES(highest_length), highest_length), " +
+                   "highest_score = GREATEST(COALESCE(highest_score, 0), VALUES(highest_score)), " +
+                   "total_score = COALESCE(total_score, 0) + VALUES(total_score)",
+           nativeQuery = true)
+    int upsertCatchAggregate(@Param("userId") Long userId, @Param("fishId") Long fishId, @Param("collectAt") LocalDate collectAt,
+                             @Param("highestScore") int highestScore, @Param("highestLength") Double highestLength,
+                             @Param("totalScore") int totalScore);
+
+    // 조과 반영 + 총점 누적 (total_score = total_score + score 를 DB에서 원자적으로 수행)
+    // highest_length는 갱신 전 highest_score와 비교해야 하므로 highest_score보다 먼저 대입
+    @Modifying
+    @Query(value = "INSERT INTO fish_collection (user_id, fish_id, is_collect, collect_at, highest_score, highest_length, " +
+                   "total_score, level, current_level_progress) " +
+                   "VALUES (:userId, :fishId, TRUE, :collectAt, :score, :length, :score, 1, 0) " +
+                   "ON DUPLICATE KEY UPDATE is_collect = TRUE, collect_at = COALESCE(collect_at, VALUES(collect_at)), " +
+                   "highest_length = IF(VALUES(highest_score) > COALESCE(highest_score, 0), VALUES(highest_length), highest_length), " +
+                   "highest_score = GREATEST(COALESCE(highest_score, 0), VALUES(highest_score)), " +
+                   "total_score = COALESCE(total_score, 0) + VALUES(total_score)",
+           nativeQuery = true)
+    int upsertCatchWithTotal(@Param("userId") Long userId, @Param("fishId") Long fishId, @Param("collectAt") LocalDate collectAt,
+                             @Param("score") int score, @Param("length") Double length);
+
+    // upsert 직후 누적 총점 조회 (같은 트랜잭션에서 행 잠금을 보유한 상태)
+    @Query(value = "SELECT total_score FROM fish_collection WHERE user_id = :userId AND fish_id = :fishId", nativeQuery = true)
+    Integer findTotalScore(@Param("userId") Long userId, @Param("fishId") Long fishId);
+
+    @Modifying
+    @Query(value = "UPDATE fish_collection SET level = :level, current_level_progress = :progress " +
+                   "WHERE user_id = :userId AND fish_id = :fishId", nativeQuery = true)
+    int updateLevel(@Param("userId") Long userId, @Param("fishId") Long fishId,
+                    @Param("level") int level, @Param("progress") double progress);
 }
@@ -0,0 +1,25 @@
+package com.fishiphedia.fish.repository;
+
+import com.fishiphedia.fish.entity.FishLengthDistribution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FishLengthDistributionRepository extends JpaRepository<FishLengthDistribution, Long> {
+    
+    // 워밍업/대조용 (fish 조인 없이 id, 스케치, 누적 통계만)
+    @Query("SELECT d.fish.id AS fishId, d.sketch AS sketch, d.lengthCount AS lengthCount, " +
+           "d.lengthMean AS lengthMean, d.lengthM2 AS lengthM2 FROM FishLengthDistribution d")
+    List<SketchRow> findAllSketches();
+    
+    interface SketchRow {
+        Long getFishId();
+        byte[] getSketch();
+        Long getLengthCount();
+        Double getLengthMean();
+        Double getLengthM2();
+    }
+}
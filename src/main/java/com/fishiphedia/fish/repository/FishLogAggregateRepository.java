@@ -0,0 +1,45 @@
+package com.fishiphedia.fish.repository;
+
+import com.fishiphedia.fish.entity.FishLogAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FishLogAggregateRepository extends JpaRepository<FishLogAggregate, Long> {
+    
+    // 낚시 일지 1건 반영 (행이 없으면 생성, 있으면 DB에서 원자적으로 누적)
+    @Modifying
+    @Query(value = "INSERT INTO fish_log_aggregate (fish_id, log_count, score_sum, length_sum, update_at) " +
+                   "VALUES (:fishId, 1, :score, COALESCE(:length, 0), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE log_count = log_count + 1, score_sum = score_sum + VALUES(score_sum), " +
+                   "length_sum = length_sum + VALUES(length_sum), update_at = NOW()",
+           nativeQuery = true)
+    int addLog(@Param("fishId") Long fishId, @Param("score") int score, @Param("length") Double length);
+    
+    // 낚시 일지 여러 건 반영 (일괄 업로드, 어종별로 합친 값)
+    @Modifying
+    @Query(value = "INSERT INTO fish_log_aggregate (fish_id, log_count, score_sum, length_sum, update_at) " +
+                   "VALUES (:fishId, :count, :scoreSum, :lengthSum, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE log_count = log_count + VALUES(log_count), score_sum = score_sum + VALUES(score_sum), " +
+                   "length_sum = length_sum + VALUES(length_sum), update_at = NOW()",
+           nativeQuery = true)
+    int addLogs(@Param("fishId") Long fishId, @Param("count") long count, @Param("scoreSum") long scoreSum,
+                @Param("lengthSum") double lengthSum);
+    
+    // 평균 점수 조회용 (물고기 이름과 집계를 한 번에, 집계 행이 없으면 null)
+    @Query("SELECT f.id AS fishId, f.name AS fishName, a.logCount AS logCount, a.scoreSum AS scoreSum " +
+           "FROM Fish f LEFT JOIN FishLogAggregate a ON a.fish = f WHERE f.id = :fishId")
+    Optional<AverageScoreRow> findAverageScoreRow(@Param("fishId") Long fishId);
+    
+    interface AverageScoreRow {
+        Long getFishId();
+        String getFishName();
+        Long getLogCount();
+        Long getScoreSum();
+    }
+}
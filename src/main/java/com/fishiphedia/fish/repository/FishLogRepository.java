@@ -1,13 +1,16 @@
 package com.fishiphedia.fish.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fishiphedia.fish.dto.FishLogSummaryResponse;
 import com.fishiphedia.fish.entity.FishLog;
 import com.fishiphedia.user.entity.User;
 
@@ -17,6 +20,17 @@ public interface FishLogRepository extends JpaRepository<FishLog, Long> {
     // 사용자의 낚시 일지 목록 조회 (최신순)
     List<FishLog> findByUserOrderByCollectAtDesc(User user);
     
+    // 사용자의 낚시 일지 타임라인 (collect_at, id 내림차순 키셋 페이지, fishId가 null이면 전체 어종)
+    @Query("SELECT new com.fishiphedia.fish.dto.FishLogSummaryResponse(fl.id, f.id, f.name, fl.collectAt, fl.length, " +
+           "fl.score, fl.place, fl.imgPath, fl.certified) " +
+           "FROM FishLog fl JOIN fl.fish f " +
+           "WHERE fl.user.id = :userId AND (:fishId IS NULL OR f.id = :fishId) " +
+           "AND (fl.collectAt < :collectAt OR (fl.collectAt = :collectAt AND fl.id < :id)) " +
+           "ORDER BY fl.collectAt DESC, fl.id DESC")
+    List<FishLogSummaryResponse> findTimelineBefore(@Param("userId") Long userId, @Param("fishId") Long fishId,
+                                                    @Param("collectAt") LocalDate collectAt, @Param("id") Long id,
+                                                    Pageable pageable);
+    
     // 사용자의 특정 물고기 일지 목록 조회 (최신순)
     @Query("SELECT fl FROM FishLog fl WHERE fl.user = :user AND fl.fish.id = :fishId ORDER BY fl.collectAt DESC")
     List<FishLog> findByUserAndFishIdOrderByCollectAtDesc(@Param("user") User user, @Param("fishId") Long fishId);
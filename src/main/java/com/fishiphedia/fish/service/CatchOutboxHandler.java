@@ -0,0 +1,31 @@
+package com.fishiphedia.fish.service;
+
+import com.fishiphedia.fish.entity.CatchEventType;
+
+/**
+ * 아웃박스 이벤트 소비자 (이벤트마다 completed_handlers 비트로 완료 여부 관리)
+ */
+public enum CatchOutboxHandler {
+    // 도감 최고 기록/총점/레벨 + 사용자 전체 레벨
+    COLLECTION(CatchEventType.CATCH_CREATED),
+    // 어종별 평균 점수 집계
+    LOG_AGGREGATE(CatchEventType.CATCH_CREATED),
+    // 분류 로그 연결 및 사용자 선택 물고기 반영
+    CLASSIFICATION(CatchEventType.CATCH_CREATED),
+    // 랭킹 집계 + 어종 길이 분포
+    RANKING(CatchEventType.CATCH_VERIFIED);
+
+    private final CatchEventType eventType;
+
+    CatchOutboxHandler(CatchEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public boolean handles(CatchEventType type) {
+        return eventType == type;
+    }
+}
@@ -0,0 +1,311 @@
+package com.fishiphedia.fish.service;
+
+import com.fishiphedia.classification.service.ClassificationLogService;
+import com.fishiphedia.fish.entity.CatchEventType;
+import com.fishiphedia.fish.entity.CatchOutboxEvent;
+import com.fishiphedia.fish.entity.CatchOutboxStatus;
+import com.fishiphedia.fish.entity.Fish;
+import com.fishiphedia.fish.entity.FishLog;
+import com.fishiphedia.fish.repository.CatchOutboxEventRepository;
+import com.fishiphedia.fish.repository.FishLogAggregateRepository;
+import com.fishiphedia.fish.repository.FishLogRepository;
+import com.fishiphedia.fish.repository.FishRepository;
+import com.fishiphedia.ranking.service.RankingCollectionService;
+import com.fishiphedia.user.entity.User;
+import com.fishiphedia.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 조과 아웃박스 처리기.
+ * 낚시 일지 저장 트랜잭션은 일지와 아웃박스 이벤트만 기록하고,
+ * 도감/집계/분류/랭킹 반영은 여기서 소비자(CatchOutboxHandler)별로 따로 트랜잭션을 열어 적용한다.
+ * 여러 인스턴스가 동시에 돌아도 FOR UPDATE SKIP LOCKED로 이벤트를 나눠 가져가고,
+ * 실패한 소비자만 지수 백오프로 다시 시도한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatchOutboxProcessor {
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO catch_outbox (event_type, fish_log_id, user_id, fish_id, score, length, classification_log_id, " +
+            "status, completed_handlers, attempts, next_attempt_at, create_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', ?, 0, ?, ?)";
+
+    // 처리 대기 이벤트 + 처리 중 멈춘 이벤트(잠금 시간 초과)를 다른 인스턴스와 겹치지 않게 가져옴
+    private static final String CLAIM_SQL =
+            "SELECT id FROM catch_outbox " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= ?) OR (status = 'PROCESSING' AND locked_at < ?) " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_PROCESSING_SQL =
+            "UPDATE catch_outbox SET status = 'PROCESSING', locked_by = ?, locked_at = ? WHERE id = ?";
+
+    private static final String LOCK_EVENT_SQL =
+            "SELECT completed_handlers FROM catch_outbox WHERE id = ? FOR UPDATE";
+
+    private static final String MARK_HANDLER_DONE_SQL =
+            "UPDATE catch_outbox SET completed_handlers = completed_handlers | ? WHERE id = ?";
+
+    private static final String MARK_DONE_SQL =
+            "UPDATE catch_outbox SET status = 'DONE', processed_at = ?, locked_by = NULL, locked_at = NULL, " +
+            "last_error = NULL WHERE id = ?";
+
+    private static final String MARK_RETRY_SQL =
+            "UPDATE catch_outbox SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ?, " +
+            "locked_by = NULL, locked_at = NULL WHERE id = ?";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM catch_outbox WHERE status = 'DONE' AND processed_at < ? LIMIT 1000";
+
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    private final CatchOutboxEventRepository catchOutboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FishCollectionService fishCollectionService;
+    private final FishLogAggregateRepository fishLogAggregateRepository;
+    private final ClassificationLogService classificationLogService;
+    private final RankingCollectionService rankingCollectionService;
+    private final FishLengthDistributionService fishLengthDistributionService;
+    private final FishLogRepository fishLogRepository;
+    private final FishRepository fishRepository;
+    private final UserRepository userRepository;
+    private final FishCatalog fishCatalog;
+
+    @Value("${app.outbox.catch.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.catch.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.catch.lock-timeout-seconds:300}")
+    private long lockTimeoutSeconds;
+
+    @Value("${app.outbox.catch.retention-days:7}")
+    private long retentionDays;
+
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName() + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private ExecutorService wakeExecutor;
+
+    @PostConstruct
+    void initExecutor() {
+        wakeExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        wakeExecutor.shutdown();
+    }
+
+    /**
+     * 이벤트 기록 (호출한 트랜잭션에 포함), 커밋 이후 바로 처리를 깨운다.
+     */
+    public void enqueue(CatchEventType eventType, FishLog fishLog, Long classificationLogId) {
+        CatchOutboxEvent event = new CatchOutboxEvent();
+        event.setEventType(eventType);
+        event.setFishLogId(fishLog.getId());
+        event.setUserId(fishLog.getUser().getId());
+        event.setFishId(fishLog.getFish().getId());
+        event.setScore(fishLog.getScore());
+        event.setLength(fishLog.getLength());
+        event.setClassificationLogId(classificationLogId);
+        catchOutboxEventRepository.save(event);
+        wakeUpAfterCommit();
+    }
+
+    /**
+     * 여러 이벤트를 한 번의 JDBC 배치로 기록 (일괄 업로드용, 이미 반영한 소비자 비트 포함)
+     */
+    public void enqueueAll(List<CatchOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, events.stream()
+                .map(event -> new Object[]{event.getEventType().name(), event.getFishLogId(), event.getUserId(),
+                        event.getFishId(), event.getScore(), event.getLength(), event.getClassificationLogId(),
+                        event.getCompletedHandlers(), now, now})
+                .collect(Collectors.toList()));
+        wakeUpAfterCommit();
+    }
+
+    private void wakeUpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp();
+            }
+        });
+    }
+
+    public void wakeUp() {
+        try {
+            wakeExecutor.execute(this::drain);
+        } catch (Exception e) {
+            // 종료 중이면 다음 인스턴스/주기 처리에 맡김
+            log.debug("아웃박스 처리 깨우기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 커밋 직후 깨우기를 놓친 이벤트, 재시도 대상, 다른 인스턴스가 남긴 이벤트 처리
+    @Scheduled(fixedDelayString = "${app.outbox.catch.poll-interval-ms:1000}")
+    public void poll() {
+        drain();
+    }
+
+    @Scheduled(cron = "${app.outbox.catch.purge-cron:0 0 4 * * *}")
+    public void purgeProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, cutoff);
+            total += deleted;
+        } while (deleted > 0);
+        if (total > 0) {
+            log.info("처리 완료된 조과 아웃박스 정리: {}건", total);
+        }
+    }
+
+    /**
+     * 연속된 깨우기 요청은 한 번의 처리 루프로 합쳐진다.
+     */
+    private void drain() {
+        dirty.set(true);
+        while (dirty.get() && draining.compareAndSet(false, true)) {
+            try {
+                while (dirty.getAndSet(false)) {
+                    List<CatchOutboxEvent> events;
+                    while (!(events = claim()).isEmpty()) {
+                        events.forEach(this::process);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("조과 아웃박스 처리 실패: {}", e.getMessage());
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    private List<CatchOutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> claimed = jdbcTemplate.queryForList(CLAIM_SQL, Long.class,
+                    now, now.minusSeconds(lockTimeoutSeconds), batchSize);
+            if (!claimed.isEmpty()) {
+                jdbcTemplate.batchUpdate(MARK_PROCESSING_SQL, claimed.stream()
+                        .map(id -> new Object[]{instanceId, now, id})
+                        .collect(Collectors.toList()));
+            }
+            return claimed;
+        });
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return catchOutboxEventRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(CatchOutboxEvent::getId))
+                .collect(Collectors.toList());
+    }
+
+    private void process(CatchOutboxEvent event) {
+        String error = null;
+        for (CatchOutboxHandler handler : CatchOutboxHandler.values()) {
+            if (!handler.handles(event.getEventType()) || (event.getCompletedHandlers() & handler.bit()) != 0) {
+                continue;
+            }
+            try {
+                // 반영과 완료 비트를 한 트랜잭션으로 (이벤트 행 잠금으로 같은 소비자 중복 실행 방지)
+                transactionTemplate.executeWithoutResult(status -> {
+                    Integer completed = jdbcTemplate.queryForObject(LOCK_EVENT_SQL, Integer.class, event.getId());
+                    if (completed != null && (completed & handler.bit()) != 0) {
+                        return;
+                    }
+                    apply(handler, event);
+                    jdbcTemplate.update(MARK_HANDLER_DONE_SQL, handler.bit(), event.getId());
+                });
+            } catch (Exception e) {
+                error = handler + ": " + e.getMessage();
+                log.warn("조과 아웃박스 소비 실패: eventId={}, handler={}, 오류={}", event.getId(), handler, e.getMessage());
+            }
+        }
+
+        if (error == null) {
+            jdbcTemplate.update(MARK_DONE_SQL, LocalDateTime.now(), event.getId());
+            return;
+        }
+        int attempts = event.getAttempts() + 1;
+        CatchOutboxStatus nextStatus = attempts >= maxAttempts ? CatchOutboxStatus.FAILED : CatchOutboxStatus.PENDING;
+        long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 20));
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        jdbcTemplate.update(MARK_RETRY_SQL, nextStatus.name(), attempts,
+                LocalDateTime.now().plusSeconds(backoffSeconds), error, event.getId());
+        if (nextStatus == CatchOutboxStatus.FAILED) {
+            log.error("조과 아웃박스 재시도 한도 초과: eventId={}, fishLogId={}, 오류={}", event.getId(), event.getFishLogId(), error);
+        }
+    }
+
+    private void apply(CatchOutboxHandler handler, CatchOutboxEvent event) {
+        switch (handler) {
+            case COLLECTION -> {
+                User user = userRepository.findById(event.getUserId())
+                        .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
+                Fish fish = fishRepository.getReferenceById(event.getFishId());
+                // 이벤트 생성 이후 점수 재계산이 있었을 수 있으므로 일지의 현재 점수로 반영
+                // (재계산 뒤 랭킹 재구성은 반영 전 이벤트의 일지를 집계에서 빼므로 여기서 더해야 맞음)
+                FishLog fishLog = fishLogRepository.findById(event.getFishLogId())
+                        .orElseThrow(() -> new RuntimeException("낚시 일지를 찾을 수 없습니다."));
+                fishCollectionService.updateFishCollectionWithLevel(user, fish, fishLog.getScore(), event.getLength());
+            }
+            // 재계산은 어종 집계에 점수 변화량을 더하므로 여기서는 이벤트 생성 시점 점수를 더해야 합이 맞음
+            case LOG_AGGREGATE -> fishLogAggregateRepository.addLog(event.getFishId(), event.getScore(), event.getLength());
+            case CLASSIFICATION -> {
+                if (event.getClassificationLogId() == null) {
+                    return;
+                }
+                classificationLogService.linkToFishLog(event.getClassificationLogId(), event.getFishLogId());
+                classificationLogService.updateUserSelectedFish(event.getClassificationLogId(),
+                        fishCatalog.require(event.getFishId()).getName());
+            }
+            case RANKING -> {
+                FishLog fishLog = fishLogRepository.findById(event.getFishLogId())
+                        .orElseThrow(() -> new RuntimeException("낚시 일지를 찾을 수 없습니다."));
+                rankingCollectionService.updateRankingCollection(fishLog);
+                // 어종별 길이 분포에 반영 (점수 계산용 실측 백분율)
+                if (event.getLength() != null) {
+                    fishLengthDistributionService.recordCertifiedLength(event.getFishId(), event.getLength());
+                }
+            }
+        }
+    }
+}
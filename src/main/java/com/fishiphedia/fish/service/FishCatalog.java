@@ -0,0 +1,208 @@
+package com.fishiphedia.fish.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fishiphedia.fish.dto.FishResponse;
+import com.fishiphedia.fish.entity.Fish;
+import com.fishiphedia.fish.repository.FishRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 어종 목록 불변 스냅샷 (id/이름 조회와 목록 JSON).
+ * 처음 조회할 때 한 번 읽어 두고, 어종이 변경되면 커밋 이후 스냅샷을 버려 다음 조회에서 다시 읽는다.
+ * invalidate는 이 인스턴스에만 적용되므로, 다른 인스턴스의 변경이나 JDBC 직접 갱신(자동 보정)은
+ * 주기적으로 fish 테이블 체크섬을 비교해 스냅샷 버전이 다르면 버리는 방식으로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FishCatalog {
+
+    // 스냅샷에 담기는 컬럼의 행 수/체크섬 (어종 수십 건 규모라 전체 스캔도 가벼움)
+    private static final String VERSION_SQL =
+            "SELECT COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS('|', id, name, avg_length, std_deviation, rarity_score))), 0) FROM fish";
+
+    private final FishRepository fishRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public Entry require(Long fishId) {
+        Entry entry = snapshot().byId.get(fishId);
+        if (entry == null) {
+            throw new RuntimeException("물고기를 찾을 수 없습니다.");
+        }
+        return entry;
+    }
+
+    public boolean contains(Long fishId) {
+        return snapshot().byId.containsKey(fishId);
+    }
+
+    public Entry findByName(String name) {
+        return snapshot().byName.get(name);
+    }
+
+    public Collection<Entry> getAll() {
+        return snapshot().byId.values();
+    }
+
+    // 어종 목록 응답 JSON (미리 직렬화)
+    public byte[] getAllJson() {
+        return snapshot().allJson;
+    }
+
+    /**
+     * 어종 변경 시 호출. 트랜잭션 안이면 커밋 이후에 스냅샷을 버린다.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict();
+            }
+        });
+    }
+
+    /**
+     * DB 버전이 스냅샷과 다르면 스냅샷을 버림 (다른 인스턴스의 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${app.fish.catalog.version-check-interval-ms:10000}")
+    public void checkVersion() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return;
+        }
+        try {
+            if (!current.version.equals(readVersion())) {
+                log.debug("어종 스냅샷 버전 변경 감지");
+                evict();
+            }
+        } catch (Exception e) {
+            log.error("어종 스냅샷 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        // 읽는 도중 무효화되면 이전 데이터일 수 있으므로 설치하지 않고 그대로만 사용
+        long readGeneration = generation.get();
+        Snapshot loaded = load();
+        synchronized (this) {
+            if (generation.get() == readGeneration && snapshot.get() == null) {
+                snapshot.set(loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private String readVersion() {
+        return jdbcTemplate.queryForObject(VERSION_SQL, (rs, rowNum) -> rs.getLong(1) + ":" + rs.getLong(2));
+    }
+
+    private Snapshot load() {
+        // 버전을 먼저 읽어 두면 읽는 사이의 변경은 다음 확인에서 버전 차이로 드러남
+        String version = readVersion();
+        Map<Long, Entry> byId = new LinkedHashMap<>();
+        for (Fish fish : fishRepository.findAll()) {
+            byId.put(fish.getId(), new Entry(fish));
+        }
+        Map<String, Entry> byName = byId.values().stream()
+                .collect(Collectors.toMap(Entry::getName, entry -> entry));
+        List<FishResponse> responses = byId.values().stream()
+                .map(Entry::toResponse)
+                .collect(Collectors.toList());
+        try {
+            byte[] allJson = objectMapper.writeValueAsBytes(responses);
+            log.debug("어종 스냅샷 로드: {}종", byId.size());
+            return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byName), allJson, version);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("어종 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Entry> byId;
+        private final Map<String, Entry> byName;
+        private final byte[] allJson;
+        private final String version;
+
+        private Snapshot(Map<Long, Entry> byId, Map<String, Entry> byName, byte[] allJson, String version) {
+            this.byId = byId;
+            this.byName = byName;
+            this.allJson = allJson;
+            this.version = version;
+        }
+    }
+
+    /**
+     * 어종 한 건의 불변 사본
+     */
+    @Getter
+    public static final class Entry {
+        private final Long id;
+        private final String name;
+        private final Double avgLength;
+        private final Double stdDeviation;
+        private final Integer rarityScore;
+
+        private Entry(Fish fish) {
+            this.id = fish.getId();
+            this.name = fish.getName();
+            this.avgLength = fish.getAvgLength();
+            this.stdDeviation = fish.getStdDeviation();
+            this.rarityScore = fish.getRarityScore();
+        }
+
+        public FishResponse toResponse() {
+            FishResponse response = new FishResponse();
+            response.setId(id);
+            response.setName(name);
+            response.setAvgLength(avgLength);
+            response.setStdDeviation(stdDeviation);
+            response.setRarityScore(rarityScore);
+            return response;
+        }
+
+        // 점수 계산용 비영속 Fish (연관관계에는 getReferenceById 사용)
+        public Fish toFish() {
+            Fish fish = new Fish();
+            fish.setId(id);
+            fish.setName(name);
+            fish.setAvgLength(avgLength);
+            fish.setStdDeviation(stdDeviation);
+            fish.setRarityScore(rarityScore);
+            return fish;
+        }
+    }
+}
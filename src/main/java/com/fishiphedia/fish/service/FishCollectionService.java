@@ -4,6 +4,7 @@ import com.fishiphedia.fish.dto.FishCollectionResponse;
 import com.fishiphedia.fish.dto.LevelUpdateResult;
 import com.fishiphedia.fish.entity.Fish;
 import com.fishiphedia.user.entity.User;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface FishCollectionService {
@@ -16,4 +17,14 @@ public interface FishCollectionService {
     
     // FishCollection 업데이트 메서드 (새로운 알고리즘)
     LevelUpdateResult updateFishCollectionWithLevel(User user, Fish fish, int score, Double length);
+    
+    // 일괄 업로드: 같은 물고기 조과를 합친 최고 기록/총점 증분 반영
+    LevelUpdateResult applyCatchBatch(User user, Long fishId, LocalDate collectAt, int scoreSum,
+                                      int highestScore, Double highestLength);
+    
+    // 사용자 전체 총점/레벨 반영
+    void addUserScore(User user, int score);
+    
+    // 조과 반영 전 레벨 변화 예상치 (현재 총점 + score 기준, 저장하지 않음)
+    LevelUpdateResult previewLevelUpdate(User user, Long fishId, int score);
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.fishiphedia.fish.service;
 
 import com.fishiphedia.common.util.LevelCalculator;
+import com.fishiphedia.common.util.LevelCurveType;
 import com.fishiphedia.fish.dto.FishCollectionResponse;
 import com.fishiphedia.fish.dto.LevelUpdateResult;
 import com.fishiphedia.fish.entity.Fish;
@@ -8,7 +9,6 @@ import com.fishiphedia.fish.entity.FishCollection;
 import com.fishiphedia.fish.repository.FishCollectionRepository;
 import com.fishiphedia.fish.repository.FishRepository;
 import com.fishiphedia.user.entity.User;
-import com.fishiphedia.user.entity.UserInfo;
 import com.fishiphedia.user.repository.UserInfoRepository;
 import com.fishiphedia.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +19,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,15 +29,14 @@ public class FishCollectionServiceImpl implements FishCollectionService {
     private final UserInfoRepository userInfoRepository;
     private final UserRepository userRepository;
     private final FishRepository fishRepository;
+    private final FishCatalog fishCatalog;
+    private final FishCollectionViewCache fishCollectionViewCache;
 
     @Override
     public List<FishCollectionResponse> getMyCollection() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String loginId = authentication.getName();
-        User user = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
-        List<FishCollection> collections = fishCollectionRepository.findByUser(user);
-        return collections.stream().map(this::toResponse).collect(Collectors.toList());
+        return fishCollectionViewCache.get(loginId, () -> fishCollectionRepository.findResponsesByLoginId(loginId));
     }
 
     @Override
@@ -50,102 +48,80 @@ public class FishCollectionServiceImpl implements FishCollectionService {
         User user = userRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
 
-        Fish fish = fishRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
+        FishCatalog.Entry fishEntry = fishCatalog.require(id);
+        Fish fish = fishRepository.getReferenceById(fishEntry.getId());
         FishCollection collection=fishCollectionRepository.findByUserAndFish(user, fish).orElse(null);
-        return toResponse(collection);
+        return toResponse(collection, fishEntry.getName());
     }
 
     @Override
     @Transactional
     public void updateFishCollection(User user, Fish fish, int score, Double length) {
-        FishCollection fishCollection = fishCollectionRepository.findByUserAndFish(user, fish)
-                .orElseGet(() -> {
-                    // 새로운 수집 기록 생성
-                    FishCollection newCollection = new FishCollection();
-                    newCollection.setUser(user);
-                    newCollection.setFish(fish);
-                    newCollection.setIsCollect(true);
-                    newCollection.setCollectAt(LocalDate.now());
-                    newCollection.setHighestScore(score);
-                    newCollection.setHighestLength(length);
-                    return newCollection;
-                });
-
-        // 기존 기록이 있는 경우 최고 기록 갱신
-        if (fishCollection.getId() != null) {
-            if (score > fishCollection.getHighestScore()) {
-                fishCollection.setHighestScore(score);
-            }
-            if (length > fishCollection.getHighestLength()) {
-                fishCollection.setHighestLength(length);
-            }
-        }
-
-        fishCollectionRepository.save(fishCollection);
+        // 조회 후 저장 대신 단일 upsert로 최고 기록 갱신
+        fishCollectionRepository.upsertCatch(user.getId(), fish.getId(), LocalDate.now(), score, length);
+        fishCollectionViewCache.evict(user.getLoginId());
     }
 
     @Override
     @Transactional
     public LevelUpdateResult updateFishCollectionWithLevel(User user, Fish fish, int score, Double length) {
-        // 1. FishCollection 조회 또는 생성
-        FishCollection fishCollection = fishCollectionRepository.findByUserAndFish(user, fish)
-                .orElseGet(() -> {
-                    // 새로운 수집 기록 생성
-                    FishCollection newCollection = new FishCollection();
-                    newCollection.setUser(user);
-                    newCollection.setFish(fish);
-                    newCollection.setIsCollect(true);
-                    newCollection.setCollectAt(LocalDate.now());
-                    newCollection.setHighestScore(score);
-                    newCollection.setHighestLength(length);
-                    newCollection.setTotalScore(score);
-                    newCollection.setLevel(1);
-                    newCollection.setCurrentLevelProgress(0.0);
-                    return newCollection;
-                });
-
-        // 2. 기존 값 저장
-        int oldTotalScore = fishCollection.getTotalScore() != null ? fishCollection.getTotalScore() : 0;
-        int oldLevel = fishCollection.getLevel() != null ? fishCollection.getLevel() : 1;
-        double oldProgress = fishCollection.getCurrentLevelProgress() != null ? fishCollection.getCurrentLevelProgress() : 0.0;
-
-        // 3. totalScore에 score 추가
-        int newTotalScore = oldTotalScore + score;
-        fishCollection.setTotalScore(newTotalScore);
-
-        // 4. 레벨 계산 및 업데이트
-        LevelCalculator.LevelInfo levelInfo = LevelCalculator.calculateLevel(newTotalScore);
-        fishCollection.setLevel(levelInfo.level);
-        fishCollection.setCurrentLevelProgress(levelInfo.progress);
-
-        // 5. 최고 기록 갱신 (score > highest_score)
-        if (score > fishCollection.getHighestScore()) {
-            fishCollection.setHighestScore(score);
-            fishCollection.setHighestLength(length);
-        }
+        // 1. FishCollection 총점/최고 기록을 DB에서 원자적으로 누적 (동시 조과 시 갱신 손실 없음)
+        fishCollectionRepository.upsertCatchWithTotal(user.getId(), fish.getId(), LocalDate.now(), score, length);
+        Integer totalScore = fishCollectionRepository.findTotalScore(user.getId(), fish.getId());
+        int newTotalScore = totalScore != null ? totalScore : score;
 
-        // 6. FishCollection 저장
-        fishCollectionRepository.save(fishCollection);
+        // 2. 이전 레벨은 누적 전 총점으로부터 계산, 레벨 갱신
+        LevelUpdateResult result = toLevelUpdateResult(newTotalScore - score, newTotalScore);
+        LevelCalculator.LevelInfo levelInfo = LevelCalculator.calculateLevel(LevelCurveType.FISH_COLLECTION, newTotalScore);
+        fishCollectionRepository.updateLevel(user.getId(), fish.getId(), levelInfo.level, levelInfo.progress);
+        fishCollectionViewCache.evict(user.getLoginId());
 
-        // 7. UserInfo도 업데이트 (전체 레벨)
-        UserInfo userInfo = user.getUserInfo();
-        if (userInfo != null) {
-            int userOldTotalScore = userInfo.getTotalScore() != null ? userInfo.getTotalScore() : 0;
-            int userOldLevel = userInfo.getLevel() != null ? userInfo.getLevel() : 1;
-            double userOldProgress = userInfo.getCurrentLevelProgress() != null ? userInfo.getCurrentLevelProgress() : 0.0;
+        // 3. UserInfo도 업데이트 (전체 레벨)
+        addUserScore(user, score);
 
-            int userNewTotalScore = userOldTotalScore + score;
-            LevelCalculator.LevelInfo userLevelInfo = LevelCalculator.calculateLevel(userNewTotalScore);
+        return result;
+    }
 
-            userInfo.setTotalScore(userNewTotalScore);
-            userInfo.setLevel(userLevelInfo.level);
-            userInfo.setCurrentLevelProgress(userLevelInfo.progress);
+    @Override
+    @Transactional
+    public LevelUpdateResult applyCatchBatch(User user, Long fishId, LocalDate collectAt, int scoreSum,
+                                             int highestScore, Double highestLength) {
+        // 같은 물고기 조과를 합친 증분으로 한 번만 반영 (사용자 총점은 addUserScore로 따로)
+        fishCollectionRepository.upsertCatchAggregate(user.getId(), fishId, collectAt, highestScore, highestLength, scoreSum);
+        Integer totalScore = fishCollectionRepository.findTotalScore(user.getId(), fishId);
+        int newTotalScore = totalScore != null ? totalScore : scoreSum;
+
+        LevelUpdateResult result = toLevelUpdateResult(newTotalScore - scoreSum, newTotalScore);
+        LevelCalculator.LevelInfo levelInfo = LevelCalculator.calculateLevel(LevelCurveType.FISH_COLLECTION, newTotalScore);
+        fishCollectionRepository.updateLevel(user.getId(), fishId, levelInfo.level, levelInfo.progress);
+        fishCollectionViewCache.evict(user.getLoginId());
+        return result;
+    }
 
-            userInfoRepository.save(userInfo);
+    @Override
+    @Transactional
+    public void addUserScore(User user, int score) {
+        if (userInfoRepository.addTotalScore(user.getId(), score) > 0) {
+            Integer userTotalScore = userInfoRepository.findTotalScoreByUserId(user.getId());
+            LevelCalculator.LevelInfo userLevelInfo = LevelCalculator.calculateLevel(LevelCurveType.FISHER, userTotalScore != null ? userTotalScore : score);
+            userInfoRepository.updateLevel(user.getId(), userLevelInfo.level, userLevelInfo.progress);
         }
+    }
+
+    @Override
+    public LevelUpdateResult previewLevelUpdate(User user, Long fishId, int score) {
+        Integer totalScore = fishCollectionRepository.findTotalScore(user.getId(), fishId);
+        int oldTotalScore = totalScore != null ? totalScore : 0;
+        return toLevelUpdateResult(oldTotalScore, oldTotalScore + score);
+    }
+
+    // 총점 변화에 따른 레벨 변화 결과 (진행도는 백분율)
+    private static LevelUpdateResult toLevelUpdateResult(int oldTotalScore, int newTotalScore) {
+        LevelCalculator.LevelInfo oldLevelInfo = LevelCalculator.calculateLevel(LevelCurveType.FISH_COLLECTION, oldTotalScore);
+        int oldLevel = oldLevelInfo.level;
+        double oldProgress = oldLevelInfo.progress;
+        LevelCalculator.LevelInfo levelInfo = LevelCalculator.calculateLevel(LevelCurveType.FISH_COLLECTION, newTotalScore);
 
-        // 8. 레벨 업데이트 결과 반환
         boolean isLevelUp = levelInfo.level > oldLevel;
         
         // progress를 백분율로 변환 (0.0~1.0 → 0~100)
@@ -172,9 +148,10 @@ public class FishCollectionServiceImpl implements FishCollectionService {
                 .build();
     }
 
-    private FishCollectionResponse toResponse(FishCollection entity) {
+    private FishCollectionResponse toResponse(FishCollection entity, String fishName) {
         FishCollectionResponse dto = new FishCollectionResponse();
         dto.setFishId(entity.getFish().getId());
+        dto.setFishName(fishName);
         dto.setIsCollect(entity.getIsCollect());
         dto.setHighestScore(entity.getHighestScore());
         dto.setHighestLength(entity.getHighestLength());
@@ -0,0 +1,117 @@
+package com.fishiphedia.fish.service;
+
+import com.fishiphedia.fish.dto.FishCollectionResponse;
+import com.fishiphedia.ranking.service.RankingChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 도감 화면 캐시 (loginId 기준, 최근 사용 순으로 최대 사용자 수 제한).
+ * 해당 사용자의 조과가 반영되면 커밋 이후 그 사용자 항목만 버리고,
+ * 어종 변경이나 랭킹 전체 재구성 시에는 전체를 버린다.
+ * 무효화는 이 인스턴스에만 적용되므로, 다른 인스턴스에서 반영된 변경은 저장 후 만료 시간(ttl-seconds)이 지나면 다시 읽는다.
+ */
+@Component
+@Slf4j
+public class FishCollectionViewCache {
+
+    private final Map<String, CachedView> entries;
+    private final long ttlMillis;
+    private long generation;
+
+    public FishCollectionViewCache(@Value("${app.fish.collection-cache.max-users:10000}") int maxUsers,
+                                   @Value("${app.fish.collection-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedView> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public List<FishCollectionResponse> get(String loginId, Supplier<List<FishCollectionResponse>> loader) {
+        long readGeneration;
+        synchronized (this) {
+            CachedView cached = entries.get(loginId);
+            if (cached != null) {
+                if (System.currentTimeMillis() < cached.expiresAt) {
+                    return cached.view;
+                }
+                entries.remove(loginId);
+            }
+            readGeneration = generation;
+        }
+        List<FishCollectionResponse> loaded = List.copyOf(loader.get());
+        synchronized (this) {
+            // 조회 도중 무효화가 있었으면 이전 데이터일 수 있으므로 저장하지 않음
+            if (generation == readGeneration) {
+                entries.put(loginId, new CachedView(loaded, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(String loginId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                entries.remove(loginId);
+            }
+        });
+    }
+
+    public void evictAll() {
+        afterCommit(this::clear);
+    }
+
+    // 랭킹 전체 재구성(userId 없음) 시 fish_collection도 다시 계산되므로 전체 무효화 (이미 커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRankingChanged(RankingChangedEvent event) {
+        if (event.getUserId() == null) {
+            clear();
+        }
+    }
+
+    private void clear() {
+        synchronized (this) {
+            generation++;
+            entries.clear();
+        }
+        log.debug("도감 화면 캐시 전체 무효화");
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class CachedView {
+        private final List<FishCollectionResponse> view;
+        private final long expiresAt;
+
+        private CachedView(List<FishCollectionResponse> view, long expiresAt) {
+            this.view = view;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.fishiphedia.fish.service;
+
+public interface FishLengthDistributionService {
+    
+    // 검증된 낚시 일지의 길이를 어종 분포에 반영 (트랜잭션 커밋 이후)
+    void recordCertifiedLength(Long fishId, double length);
+    
+    // 실측 분포 기준 길이 백분율 (0-100), 표본이 부족하면 null
+    Double getPercentile(Long fishId, double length);
+    
+    // 누적 통계로 Fish 평균 길이/표준편차 보정, 보정된 어종 수 반환
+    int calibrateFishParameters();
+}
@@ -0,0 +1,323 @@
+package com.fishiphedia.fish.service;
+
+import com.fishiphedia.common.util.KllSketch;
+import com.fishiphedia.common.util.RunningStatistics;
+import com.fishiphedia.fish.repository.FishLengthDistributionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 어종별 길이 분포를 KLL 스케치와 Welford 누적 통계로 메모리에 유지한다.
+ * 점수 계산 시에는 메모리 스케치만 조회한다.
+ * 인스턴스마다 마지막 저장 이후 들어온 표본을 별도 스케치로 모았다가,
+ * 주기적으로 DB 행을 FOR UPDATE로 잠그고 저장된 분포에 합친 뒤(KLL merge, Chan 공식) 합쳐진 결과를 다시 읽어 온다.
+ * 저장 전에 인스턴스가 중단되면 그 표본은 사라지므로, 시작 시와 보정 전에 저장된 표본 수를 검증된 일지 수와 대조해
+ * 다른 어종은 일지로 다시 만든다. 다른 인스턴스의 미저장 표본(최대 저장 주기분)은 이때 중복될 수 있으나 다음 대조에서 맞춰진다.
+ * 스케치 크기는 표본 수와 무관하게 어종당 수 KB 이내로 유지된다.
+ * 누적 통계는 주기적으로 Fish의 평균 길이/표준편차에 반영되어,
+ * 스케치 표본이 부족한 어종의 정규분포 점수 계산에 사용된다.
+ * 값이 바뀐 어종은 FishParametersCalibratedEvent로 기존 일지 점수 재계산을 요청한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FishLengthDistributionServiceImpl implements FishLengthDistributionService {
+    
+    private static final String CERTIFIED_LENGTHS_SQL =
+            "SELECT length FROM fish_log WHERE certified = TRUE AND fish_id = ? AND length > 0";
+    
+    private static final String CERTIFIED_LENGTH_COUNT_SQL =
+            "SELECT fish_id, COUNT(*) FROM fish_log WHERE certified = TRUE AND length > 0 GROUP BY fish_id";
+    
+    private static final String INSERT_DISTRIBUTION_IF_ABSENT_SQL =
+            "INSERT INTO fish_length_distribution (fish_id, sample_count, sketch, length_count, length_mean, length_m2, update_at) " +
+            "VALUES (?, 0, ?, 0, 0, 0, ?) ON DUPLICATE KEY UPDATE fish_id = fish_id";
+    
+    private static final String LOCK_DISTRIBUTION_SQL =
+            "SELECT sketch, length_count, length_mean, length_m2 FROM fish_length_distribution WHERE fish_id = ? FOR UPDATE";
+    
+    private static final String UPDATE_DISTRIBUTION_SQL =
+            "UPDATE fish_length_distribution SET sketch = ?, sample_count = ?, length_count = ?, length_mean = ?, " +
+            "length_m2 = ?, update_at = ? WHERE fish_id = ?";
+    
+    // 값이 실제로 바뀐 경우에만 갱신 (여러 인스턴스가 같은 값으로 보정해도 재계산은 한 번)
+    private static final String UPDATE_FISH_PARAMETERS_SQL =
+            "UPDATE fish SET avg_length = ?, std_deviation = ? WHERE id = ? " +
+            "AND (avg_length IS NULL OR std_deviation IS NULL OR avg_length <> ? OR std_deviation <> ?)";
+    
+    private final FishLengthDistributionRepository fishLengthDistributionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FishCatalog fishCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final Map<Long, SpeciesDistribution> distributions = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyFishIds = ConcurrentHashMap.newKeySet();
+    
+    @Value("${app.fish.length-distribution.sketch-k:200}")
+    private int sketchK;
+    
+    @Value("${app.fish.length-distribution.min-samples:30}")
+    private int minSamples;
+    
+    @Value("${app.fish.calibration.min-samples:10}")
+    private int calibrationMinSamples;
+    
+    /**
+     * 저장된 스케치 로드 후 검증된 일지와 표본 수가 다른 어종을 다시 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            for (FishLengthDistributionRepository.SketchRow row : fishLengthDistributionRepository.findAllSketches()) {
+                RunningStatistics stats = new RunningStatistics(
+                        row.getLengthCount() != null ? row.getLengthCount() : 0L,
+                        row.getLengthMean() != null ? row.getLengthMean() : 0.0,
+                        row.getLengthM2() != null ? row.getLengthM2() : 0.0);
+                species(row.getFishId()).replace(KllSketch.fromByteArray(row.getSketch()), stats);
+            }
+            log.info("어종별 길이 분포 로드 완료: {}종", distributions.size());
+            reconcile();
+        } catch (Exception e) {
+            log.error("어종별 길이 분포 로드 실패: {}", e.getMessage());
+        }
+    }
+    
+    @Override
+    public void recordCertifiedLength(Long fishId, double length) {
+        if (length <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(fishId, length);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(fishId, length);
+            }
+        });
+    }
+    
+    @Override
+    public Double getPercentile(Long fishId, double length) {
+        SpeciesDistribution distribution = distributions.get(fishId);
+        if (distribution == null) {
+            return null;
+        }
+        synchronized (distribution) {
+            if (distribution.sketch.getN() < minSamples) {
+                return null;
+            }
+            return distribution.sketch.rank(length) * 100.0;
+        }
+    }
+    
+    /**
+     * 누적 통계를 Fish 평균 길이/표준편차로 발행 (새 점수 계산은 다음 조회부터 반영)
+     * 값이 바뀐 어종은 기존 일지 점수 재계산과 랭킹 재구성을 요청한다.
+     */
+    @Override
+    @Scheduled(cron = "${app.fish.calibration.cron:0 30 3 * * *}")
+    public int calibrateFishParameters() {
+        reconcile();
+        List<Object[]> updates = new ArrayList<>();
+        distributions.forEach((fishId, distribution) -> {
+            synchronized (distribution) {
+                RunningStatistics stats = distribution.stats;
+                if (stats.getCount() >= calibrationMinSamples && stats.getStdDeviation() > 0) {
+                    double mean = round(stats.getMean());
+                    double stdDeviation = round(stats.getStdDeviation());
+                    updates.add(new Object[]{mean, stdDeviation, fishId, mean, stdDeviation});
+                }
+            }
+        });
+        List<Long> calibrated = new ArrayList<>();
+        if (!updates.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_FISH_PARAMETERS_SQL, updates);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    calibrated.add((Long) updates.get(i)[2]);
+                }
+            }
+        }
+        if (!calibrated.isEmpty()) {
+            fishCatalog.invalidate();
+            eventPublisher.publishEvent(new FishParametersCalibratedEvent(calibrated));
+        }
+        log.info("어종 평균 길이/표준편차 보정 완료: {}종", calibrated.size());
+        return calibrated.size();
+    }
+    
+    /**
+     * 마지막 저장 이후 들어온 표본을 DB 분포에 합치고, 합쳐진 분포를 메모리에 다시 반영
+     */
+    @Scheduled(fixedDelayString = "${app.fish.length-distribution.flush-interval-ms:60000}")
+    public void flush() {
+        if (dirtyFishIds.isEmpty()) {
+            return;
+        }
+        List<Long> fishIds = new ArrayList<>(dirtyFishIds);
+        dirtyFishIds.removeAll(fishIds);
+        for (Long fishId : fishIds) {
+            SpeciesDistribution species = distributions.get(fishId);
+            if (species == null) {
+                continue;
+            }
+            KllSketch deltaSketch;
+            RunningStatistics deltaStats;
+            synchronized (species) {
+                deltaSketch = species.pendingSketch;
+                deltaStats = species.pendingStats;
+                species.pendingSketch = new KllSketch(sketchK);
+                species.pendingStats = new RunningStatistics();
+            }
+            if (deltaStats.getCount() == 0) {
+                continue;
+            }
+            try {
+                SpeciesDistribution merged = transactionTemplate.execute(status -> {
+                    SpeciesDistribution stored = lockDistribution(fishId);
+                    stored.sketch.merge(deltaSketch);
+                    stored.stats.merge(deltaStats);
+                    saveDistribution(fishId, stored);
+                    return stored;
+                });
+                species.replace(merged.sketch, merged.stats);
+            } catch (Exception e) {
+                // 합치지 못한 표본은 되돌려 다음 주기에 다시 저장
+                synchronized (species) {
+                    species.pendingSketch.merge(deltaSketch);
+                    species.pendingStats.merge(deltaStats);
+                }
+                dirtyFishIds.add(fishId);
+                log.error("길이 분포 저장 실패: fishId={}, 오류={}", fishId, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 저장된 표본 수가 검증된 일지 수와 다른 어종을 일지로 다시 생성, 다시 만든 어종 수 반환
+     */
+    public int reconcile() {
+        // 이 인스턴스의 미저장 표본은 이미 커밋된 일지이므로 먼저 저장해 중복을 피함
+        flush();
+        Map<Long, Long> storedCounts = new HashMap<>();
+        for (FishLengthDistributionRepository.SketchRow row : fishLengthDistributionRepository.findAllSketches()) {
+            storedCounts.put(row.getFishId(), row.getLengthCount() != null ? row.getLengthCount() : 0L);
+        }
+        List<Long> mismatched = new ArrayList<>();
+        jdbcTemplate.query(CERTIFIED_LENGTH_COUNT_SQL, rs -> {
+            long fishId = rs.getLong(1);
+            if (storedCounts.getOrDefault(fishId, 0L) != rs.getLong(2)) {
+                mismatched.add(fishId);
+            }
+        });
+        int rebuilt = 0;
+        for (Long fishId : mismatched) {
+            try {
+                SpeciesDistribution distribution = transactionTemplate.execute(status -> rebuildFromFishLogs(fishId));
+                species(fishId).replace(distribution.sketch, distribution.stats);
+                rebuilt++;
+            } catch (Exception e) {
+                log.error("길이 분포 재생성 실패: fishId={}, 오류={}", fishId, e.getMessage());
+            }
+        }
+        if (rebuilt > 0) {
+            log.info("검증된 낚시 일지로 어종별 길이 분포 재생성: {}종", rebuilt);
+        }
+        return rebuilt;
+    }
+    
+    private void record(Long fishId, double length) {
+        SpeciesDistribution distribution = species(fishId);
+        synchronized (distribution) {
+            distribution.sketch.update(length);
+            distribution.stats.add(length);
+            distribution.pendingSketch.update(length);
+            distribution.pendingStats.add(length);
+        }
+        dirtyFishIds.add(fishId);
+    }
+    
+    private SpeciesDistribution species(Long fishId) {
+        return distributions.computeIfAbsent(fishId, id -> new SpeciesDistribution(sketchK));
+    }
+    
+    // 행 잠금 (잠금 읽기 이후의 일반 조회가 대기 중 커밋된 일지까지 보도록 먼저 수행)
+    private SpeciesDistribution rebuildFromFishLogs(Long fishId) {
+        lockDistribution(fishId);
+        SpeciesDistribution rebuilt = new SpeciesDistribution(sketchK);
+        jdbcTemplate.query(CERTIFIED_LENGTHS_SQL, rs -> {
+            double length = rs.getDouble(1);
+            rebuilt.sketch.update(length);
+            rebuilt.stats.add(length);
+        }, fishId);
+        saveDistribution(fishId, rebuilt);
+        return rebuilt;
+    }
+    
+    // 어종 분포 행을 만들거나 잠그고 저장된 분포 반환
+    private SpeciesDistribution lockDistribution(Long fishId) {
+        jdbcTemplate.update(INSERT_DISTRIBUTION_IF_ABSENT_SQL, fishId, new KllSketch(sketchK).toByteArray(), LocalDateTime.now());
+        return jdbcTemplate.queryForObject(LOCK_DISTRIBUTION_SQL, (rs, rowNum) -> {
+            SpeciesDistribution stored = new SpeciesDistribution(sketchK);
+            stored.sketch = KllSketch.fromByteArray(rs.getBytes(1));
+            stored.stats = new RunningStatistics(rs.getLong(2), rs.getDouble(3), rs.getDouble(4));
+            return stored;
+        }, fishId);
+    }
+    
+    private void saveDistribution(Long fishId, SpeciesDistribution distribution) {
+        RunningStatistics stats = distribution.stats;
+        jdbcTemplate.update(UPDATE_DISTRIBUTION_SQL, distribution.sketch.toByteArray(), distribution.sketch.getN(),
+                stats.getCount(), stats.getMean(), stats.getM2(), LocalDateTime.now(), fishId);
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+    
+    private static class SpeciesDistribution {
+        // 조회용 분포 (저장된 분포 + 아직 저장하지 않은 표본)
+        private KllSketch sketch;
+        private RunningStatistics stats;
+        // 마지막 저장 이후 이 인스턴스에서 들어온 표본
+        private KllSketch pendingSketch;
+        private RunningStatistics pendingStats;
+        
+        private SpeciesDistribution(int k) {
+            this.sketch = new KllSketch(k);
+            this.stats = new RunningStatistics();
+            this.pendingSketch = new KllSketch(k);
+            this.pendingStats = new RunningStatistics();
+        }
+        
+        // DB에서 읽은 분포로 교체 (저장 중에 들어온 표본은 다시 더함)
+        private synchronized void replace(KllSketch storedSketch, RunningStatistics storedStats) {
+            storedSketch.merge(pendingSketch);
+            storedStats.merge(pendingStats);
+            this.sketch = storedSketch;
+            this.stats = storedStats;
+        }
+    }
+}
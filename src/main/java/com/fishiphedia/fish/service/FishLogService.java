@@ -2,8 +2,11 @@ package com.fishiphedia.fish.service;
 
 import java.util.List;
 
+import com.fishiphedia.fish.dto.FishLogBulkItem;
+import com.fishiphedia.fish.dto.FishLogBulkResponse;
 import com.fishiphedia.fish.dto.FishLogCreateResponse;
 import com.fishiphedia.fish.dto.FishLogRequest;
+import com.fishiphedia.fish.dto.FishLogTimelineResponse;
 import com.fishiphedia.fish.entity.FishLog;
 import com.fishiphedia.user.entity.User;
 
@@ -15,9 +18,18 @@ public interface FishLogService {
     // 낚시 일지 생성 (레벨 업데이트 포함)
     FishLogCreateResponse createFishLogWithLevel(FishLogRequest request, User user);
     
+    // 일괄 업로드 요청 검증 (이미지 업로드 전), 항목 수 초과는 예외, 항목별 실패 사유는 항목에 기록
+    void validateFishLogsBulk(List<FishLogBulkItem> items);
+    
+    // 낚시 일지 일괄 생성 (오프라인 동기화, 항목별 결과 반환)
+    FishLogBulkResponse createFishLogsBulk(List<FishLogBulkItem> items, User user);
+    
     // 사용자의 낚시 일지 목록 조회
     List<FishLog> getUserFishLogs(User user);
     
+    // 사용자의 낚시 일지 타임라인 (키셋 페이지, cursor가 null이면 첫 페이지)
+    FishLogTimelineResponse getUserFishLogTimeline(User user, Long fishId, String cursor, int size);
+    
     // 특정 물고기의 일지 목록 조회
     List<FishLog> getUserFishLogsByFish(User user, Long fishId);
     
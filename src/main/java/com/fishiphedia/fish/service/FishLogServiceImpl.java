@@ -1,23 +1,41 @@
 package com.fishiphedia.fish.service;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.scheduling.annotation.Async;
 
+import com.fishiphedia.fish.dto.FishLogBulkItem;
+import com.fishiphedia.fish.dto.FishLogBulkItemResult;
+import com.fishiphedia.fish.dto.FishLogBulkResponse;
 import com.fishiphedia.fish.dto.FishLogCreateResponse;
 import com.fishiphedia.fish.dto.FishLogRequest;
 import com.fishiphedia.fish.dto.FishLogResponse;
+import com.fishiphedia.fish.dto.FishLogSummaryResponse;
+import com.fishiphedia.fish.dto.FishLogTimelineResponse;
 import com.fishiphedia.fish.dto.LevelUpdateResult;
+import com.fishiphedia.fish.entity.CatchEventType;
+import com.fishiphedia.fish.entity.CatchOutboxEvent;
 import com.fishiphedia.fish.entity.Fish;
 import com.fishiphedia.fish.entity.FishLog;
+import com.fishiphedia.fish.repository.FishLogAggregateRepository;
 import com.fishiphedia.fish.repository.FishLogRepository;
 import com.fishiphedia.fish.repository.FishRepository;
 import com.fishiphedia.user.entity.User;
-import com.fishiphedia.ranking.service.RankingCollectionService;
-import com.fishiphedia.classification.service.ClassificationLogService;
 
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -31,18 +49,40 @@ public class FishLogServiceImpl implements FishLogService {
     private final FishLogRepository fishLogRepository;
     private final FishRepository fishRepository;
     private final FishCollectionService fishCollectionService;
-    private final RankingCollectionService rankingCollectionService;
-    private final ClassificationLogService classificationLogService;
+    private final FishScoreCalculator fishScoreCalculator;
+    private final FishCatalog fishCatalog;
+    private final CatchOutboxProcessor catchOutboxProcessor;
+    private final FishLogAggregateRepository fishLogAggregateRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.fish.bulk.max-items:100}")
+    private int maxBulkItems;
+
+    // 일괄 업로드 채집일 허용 범위 (오늘부터 과거로 며칠까지)
+    @Value("${app.fish.bulk.max-backdate-days:365}")
+    private int maxBackdateDays;
     private static final Logger log = LoggerFactory.getLogger(FishLogServiceImpl.class);
 
+    // 아직 검증되지 않은 경우에만 검증 처리 (동시 검증 시 한 요청만 1건 갱신)
+    private static final String CERTIFY_FISH_LOG_SQL =
+            "UPDATE fish_log SET certified = TRUE WHERE id = ? AND user_id = ? AND certified = FALSE";
+
+    private static final String INSERT_FISH_LOG_SQL =
+            "INSERT INTO fish_log (user_id, fish_id, collect_at, length, score, place, review, img_path, certified) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, FALSE)";
+
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+    // 첫 페이지 조회용 커서 (모든 일지보다 뒤)
+    private static final LocalDate TIMELINE_START_DATE = LocalDate.of(9999, 12, 31);
+
     @Override
     public FishLog createFishLog(FishLogRequest request, User user) {
-        // 물고기 조회
-        Fish fish = fishRepository.findById(request.getFishId())
-                .orElseThrow(() -> new RuntimeException("물고기를 찾을 수 없습니다."));
+        // 물고기 조회 (어종 스냅샷, 연관관계는 DB 조회 없는 참조로)
+        FishCatalog.Entry fishEntry = fishCatalog.require(request.getFishId());
+        Fish fish = fishRepository.getReferenceById(fishEntry.getId());
 
         // 점수 계산
-        int score = calculateScore(fish, request.getLength());
+        int score = fishScoreCalculator.calculateScore(fishEntry.toFish(), request.getLength());
 
         // FishLog 생성
         FishLog fishLog = new FishLog();
@@ -58,33 +98,20 @@ public class FishLogServiceImpl implements FishLogService {
 
         FishLog savedFishLog = fishLogRepository.save(fishLog);
 
-        // 분류 로그와 연결 및 사용자 선택 물고기 업데이트 (분류 로그 ID가 있는 경우)
-        if (request.getClassificationLogId() != null) {
-            try {
-                classificationLogService.linkToFishLog(request.getClassificationLogId(), savedFishLog.getId());
-                log.info("분류 로그 {} 와 낚시 일지 {} 연결 완료", request.getClassificationLogId(), savedFishLog.getId());
-                
-                // 비동기로 사용자 선택 물고기 업데이트
-                updateClassificationLogAsync(request.getClassificationLogId(), fish.getName());
-            } catch (Exception e) {
-                log.warn("분류 로그 연결 실패: {}", e.getMessage());
-            }
-        }
-
-        // FishCollection 업데이트 (FishCollectionService 사용)
-        fishCollectionService.updateFishCollection(user, fish, score, request.getLength());
+        // 도감/어종 집계/분류 로그 반영은 아웃박스 이벤트로 (커밋 이후 소비자가 처리)
+        catchOutboxProcessor.enqueue(CatchEventType.CATCH_CREATED, savedFishLog, request.getClassificationLogId());
 
         return savedFishLog;
     }
 
     @Override
     public FishLogCreateResponse createFishLogWithLevel(FishLogRequest request, User user) {
-        // 물고기 조회
-        Fish fish = fishRepository.findById(request.getFishId())
-                .orElseThrow(() -> new RuntimeException("물고기를 찾을 수 없습니다."));
+        // 물고기 조회 (어종 스냅샷, 연관관계는 DB 조회 없는 참조로)
+        FishCatalog.Entry fishEntry = fishCatalog.require(request.getFishId());
+        Fish fish = fishRepository.getReferenceById(fishEntry.getId());
 
         // 점수 계산
-        int score = calculateScore(fish, request.getLength());
+        int score = fishScoreCalculator.calculateScore(fishEntry.toFish(), request.getLength());
 
         // FishLog 생성
         FishLog fishLog = new FishLog();
@@ -100,24 +127,14 @@ public class FishLogServiceImpl implements FishLogService {
 
         FishLog savedFishLog = fishLogRepository.save(fishLog);
 
-        // 분류 로그와 연결 및 사용자 선택 물고기 업데이트 (분류 로그 ID가 있는 경우)
-        if (request.getClassificationLogId() != null) {
-            try {
-                classificationLogService.linkToFishLog(request.getClassificationLogId(), savedFishLog.getId());
-                log.info("분류 로그 {} 와 낚시 일지 {} 연결 완료", request.getClassificationLogId(), savedFishLog.getId());
-                
-                // 비동기로 사용자 선택 물고기 업데이트
-                updateClassificationLogAsync(request.getClassificationLogId(), fish.getName());
-            } catch (Exception e) {
-                log.warn("분류 로그 연결 실패: {}", e.getMessage());
-            }
-        }
+        // 도감/어종 집계/분류 로그 반영은 아웃박스 이벤트로 (커밋 이후 소비자가 처리)
+        catchOutboxProcessor.enqueue(CatchEventType.CATCH_CREATED, savedFishLog, request.getClassificationLogId());
 
-        // FishCollection 업데이트 (레벨 포함)
-        var levelUpdateResult = fishCollectionService.updateFishCollectionWithLevel(user, fish, score, request.getLength());
+        // 레벨 변화 예상치 (실제 도감 반영은 아웃박스 소비자가 수행)
+        var levelUpdateResult = fishCollectionService.previewLevelUpdate(user, fishEntry.getId(), score);
 
         // 응답 생성
-        FishLogResponse fishLogResponse = convertToResponse(savedFishLog);
+        FishLogResponse fishLogResponse = convertToResponse(savedFishLog, fishEntry.getName());
         
         return FishLogCreateResponse.builder()
                 .fishLog(fishLogResponse)
@@ -126,12 +143,190 @@ public class FishLogServiceImpl implements FishLogService {
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void validateFishLogsBulk(List<FishLogBulkItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 낚시 일지가 없습니다.");
+        }
+        if (items.size() > maxBulkItems) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxBulkItems + "건까지 업로드할 수 있습니다.");
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate earliest = today.minusDays(maxBackdateDays);
+        for (FishLogBulkItem item : items) {
+            if (item.getError() != null) {
+                continue;
+            }
+            if (item.getLength() == null) {
+                item.setError("길이를 입력해주세요.");
+            } else if (item.getLength() <= 0) {
+                item.setError("길이가 올바르지 않습니다.");
+            } else if (item.getFishId() == null) {
+                item.setError("물고기를 선택해주세요.");
+            } else if (!fishCatalog.contains(item.getFishId())) {
+                item.setError("물고기를 찾을 수 없습니다.");
+            } else if (item.getCollectAt() != null && item.getCollectAt().isAfter(today)) {
+                item.setError("채집일은 미래일 수 없습니다.");
+            } else if (item.getCollectAt() != null && item.getCollectAt().isBefore(earliest)) {
+                item.setError("채집일은 최근 " + maxBackdateDays + "일 이내여야 합니다.");
+            }
+        }
+    }
+
+    @Override
+    public FishLogBulkResponse createFishLogsBulk(List<FishLogBulkItem> items, User user) {
+        validateFishLogsBulk(items);
+
+        // 1. 항목별 점수 계산 (실패 항목은 결과에만 남기고 제외)
+        FishLogBulkItemResult[] results = new FishLogBulkItemResult[items.size()];
+        List<Integer> accepted = new ArrayList<>();
+        int[] scores = new int[items.size()];
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < items.size(); i++) {
+            FishLogBulkItem item = items.get(i);
+            String error = item.getError();
+            if (error == null) {
+                try {
+                    FishCatalog.Entry fishEntry = fishCatalog.require(item.getFishId());
+                    scores[i] = fishScoreCalculator.calculateScore(fishEntry.toFish(), item.getLength());
+                } catch (Exception e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                results[i] = FishLogBulkItemResult.builder()
+                        .index(i).clientRef(item.getClientRef()).fishId(item.getFishId())
+                        .success(false).error(error)
+                        .build();
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // 2. 낚시 일지 일괄 insert (JDBC 배치, 생성된 id 회수)
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        if (!accepted.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(INSERT_FISH_LOG_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int n) throws SQLException {
+                            int i = accepted.get(n);
+                            FishLogBulkItem item = items.get(i);
+                            ps.setLong(1, user.getId());
+                            ps.setLong(2, item.getFishId());
+                            ps.setObject(3, item.getCollectAt() != null ? item.getCollectAt() : today);
+                            ps.setDouble(4, item.getLength());
+                            ps.setInt(5, scores[i]);
+                            ps.setString(6, item.getPlace());
+                            ps.setString(7, item.getReview());
+                            ps.setString(8, item.getImgPath());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return accepted.size();
+                        }
+                    },
+                    keyHolder);
+        }
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+
+        // 3. (사용자, 물고기)별로 합쳐서 도감/어종 집계를 한 번씩 반영
+        Map<Long, BulkCatchDelta> deltas = new LinkedHashMap<>();
+        List<CatchOutboxEvent> events = new ArrayList<>();
+        int totalScore = 0;
+        for (int n = 0; n < accepted.size(); n++) {
+            int i = accepted.get(n);
+            FishLogBulkItem item = items.get(i);
+            Long fishLogId = ((Number) keys.get(n).values().iterator().next()).longValue();
+            LocalDate collectAt = item.getCollectAt() != null ? item.getCollectAt() : today;
+            deltas.computeIfAbsent(item.getFishId(), id -> new BulkCatchDelta())
+                    .add(scores[i], item.getLength(), collectAt);
+            totalScore += scores[i];
+
+            // 분류 로그 연결만 아웃박스 소비자에게 (도감/집계는 아래에서 이미 반영)
+            if (item.getClassificationLogId() != null) {
+                CatchOutboxEvent event = new CatchOutboxEvent();
+                event.setEventType(CatchEventType.CATCH_CREATED);
+                event.setFishLogId(fishLogId);
+                event.setUserId(user.getId());
+                event.setFishId(item.getFishId());
+                event.setScore(scores[i]);
+                event.setLength(item.getLength());
+                event.setClassificationLogId(item.getClassificationLogId());
+                event.setCompletedHandlers(CatchOutboxHandler.COLLECTION.bit() | CatchOutboxHandler.LOG_AGGREGATE.bit());
+                events.add(event);
+            }
+
+            results[i] = FishLogBulkItemResult.builder()
+                    .index(i).clientRef(item.getClientRef()).fishId(item.getFishId())
+                    .success(true).fishLogId(fishLogId).score(scores[i])
+                    .build();
+        }
+
+        Map<Long, LevelUpdateResult> levelUpdates = new LinkedHashMap<>();
+        deltas.forEach((fishId, delta) -> {
+            levelUpdates.put(fishId, fishCollectionService.applyCatchBatch(user, fishId, delta.firstCollectAt,
+                    delta.scoreSum, delta.highestScore, delta.highestLength));
+            fishLogAggregateRepository.addLogs(fishId, delta.count, delta.scoreSum, delta.lengthSum);
+        });
+        if (totalScore > 0) {
+            fishCollectionService.addUserScore(user, totalScore);
+        }
+        catchOutboxProcessor.enqueueAll(events);
+
+        log.info("낚시 일지 일괄 업로드 - 사용자: {}, 요청: {}건, 저장: {}건", user.getLoginId(), items.size(), accepted.size());
+        return FishLogBulkResponse.builder()
+                .succeeded(accepted.size())
+                .failed(items.size() - accepted.size())
+                .results(Arrays.asList(results))
+                .levelUpdates(levelUpdates)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<FishLog> getUserFishLogs(User user) {
         return fishLogRepository.findByUserOrderByCollectAtDesc(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FishLogTimelineResponse getUserFishLogTimeline(User user, Long fishId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_TIMELINE_PAGE_SIZE);
+        LocalDate cursorCollectAt = TIMELINE_START_DATE;
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            // cursor 형식: {collectAt}_{id}
+            String[] parts = cursor.split("_", 2);
+            try {
+                cursorCollectAt = LocalDate.parse(parts[0]);
+                cursorId = Long.parseLong(parts[1]);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<FishLogSummaryResponse> rows = fishLogRepository.findTimelineBefore(
+                user.getId(), fishId, cursorCollectAt, cursorId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<FishLogSummaryResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            FishLogSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = last.getCollectAt() + "_" + last.getId();
+        }
+        return FishLogTimelineResponse.builder()
+                .fishLogs(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<FishLog> getUserFishLogsByFish(User user, Long fishId) {
@@ -156,115 +351,50 @@ public class FishLogServiceImpl implements FishLogService {
                 .orElseThrow(() -> new RuntimeException("낚시 일지를 찾을 수 없습니다."));
         
         // TODO: 실제 검증 로직 구현 (AI 분석, 관리자 검토 등)
-        // 현재는 항상 true로 설정하고 certified 필드 업데이트
-        fishLog.setCertified(true);
-        FishLog savedFishLog = fishLogRepository.save(fishLog);
+        // 현재는 항상 검증 처리, 조건부 UPDATE로 이미 검증된 일지는 랭킹에 중복 반영하지 않음
+        int certified = jdbcTemplate.update(CERTIFY_FISH_LOG_SQL, fishLogId, user.getId());
+        if (certified == 0) {
+            return true;
+        }
         
-        // RankingCollection 업데이트
-        rankingCollectionService.updateRankingCollection(savedFishLog);
+        // 랭킹 집계/어종 길이 분포 반영은 아웃박스 이벤트로
+        catchOutboxProcessor.enqueue(CatchEventType.CATCH_VERIFIED, fishLog, null);
         
         log.info("FishLog 검증 완료 - ID: {}, User: {}, Fish: {}", 
-                fishLogId, user.getLoginId(), fishLog.getFish().getName());
+                fishLogId, user.getLoginId(), fishCatalog.require(fishLog.getFish().getId()).getName());
         
         return true;
     }
 
-    // 새로운 점수 계산 로직: rarity + 길이 백분율에 따른 가중치 * 길이 제곱근
-    private int calculateScore(Fish fish, Double length) {
-        if (length == null || length <= 0) {
-            return 50; // 기본 점수
-        }
-        
-        int rarity = fish.getRarityScore(); // 희귀도 점수
-        double avgLength = fish.getAvgLength(); // 평균 길이
-        double stdDeviation = fish.getStdDeviation(); // 표준편차
-        
-        // 길이 백분율 계산 (해당 어종에서 이 길이가 어느 정도 위치인지)
-        double lengthPercentile = calculateLengthPercentile(length, avgLength, stdDeviation);
-        
-        // 비선형 가중치: 상위권은 큰 보상, 하위권은 완만한 감소
-        double lengthWeight = calculateNonLinearWeight(lengthPercentile);
-        
-        // 새로운 공식: rarity + 길이가중치 * 길이 제곱근
-        double score = rarity + (lengthWeight * Math.sqrt(length));
-        
-        // 점수 제한 없음 (최소 1점만 보장)
-        int finalScore = Math.max(1, (int) Math.round(score));
-        
-        log.info("점수 계산 - 물고기: {}, 길이: {}cm, 희귀도: {}, 백분율: {:.1f}%, 가중치: {:.2f}, 최종점수: {}", 
-                fish.getName(), length, rarity, lengthPercentile, lengthWeight, finalScore);
-        
-        return finalScore;
-    }
-    
-    /**
-     * 비선형 가중치 계산: 상위권 큰 보상, 하위권 완만한 감소
-     * @param percentile 백분율 (0-100)
-     * @return 가중치 (0.3 ~ 3.0)
-     */
-    private double calculateNonLinearWeight(double percentile) {
-        if (percentile >= 99.0) {
-            // 상위 1%: 최대 보상 (뽕맛)
-            return 3.0;
-        } else if (percentile >= 95.0) {
-            // 상위 5%: 큰 보상
-            return 2.0 + (percentile - 95.0) / 4.0; // 2.0 ~ 3.0
-        } else if (percentile >= 90.0) {
-            // 상위 10%: 중간 보상
-            return 1.5 + (percentile - 90.0) / 10.0; // 1.5 ~ 2.0
-        } else if (percentile >= 75.0) {
-            // 상위 25%: 작은 보상
-            return 1.2 + (percentile - 75.0) / 50.0; // 1.2 ~ 1.5
-        } else if (percentile >= 50.0) {
-            // 상위 50%: 기본 가중치 근처
-            return 1.0 + (percentile - 50.0) / 125.0; // 1.0 ~ 1.2
-        } else {
-            // 하위 50%: 완만한 감소 (최소 점수 보장)
-            return 0.3 + (percentile / 50.0) * 0.7; // 0.3 ~ 1.0
-        }
-    }
-    
-    /**
-     * 길이의 백분율을 계산 (정규분포 가정)
-     * @param length 실제 길이
-     * @param avgLength 평균 길이
-     * @param stdDeviation 표준편차
-     * @return 백분율 (0-100)
-     */
-    private double calculateLengthPercentile(double length, double avgLength, double stdDeviation) {
-        if (stdDeviation <= 0) {
-            return length >= avgLength ? 75.0 : 25.0; // 표준편차가 0이면 평균 기준으로 구분
-        }
-        
-        // Z-score 계산
-        double zScore = (length - avgLength) / stdDeviation;
-        
-        // Z-score를 백분율로 변환 (근사치)
-        double percentile = 50.0 + (zScore * 34.13); // 68-95-99.7 법칙 사용
-        
-        // 0-100 범위로 제한
-        return Math.max(0.0, Math.min(100.0, percentile));
-    }
+    // 일괄 업로드에서 물고기별로 합친 조과
+    private static class BulkCatchDelta {
+        private long count;
+        private int scoreSum;
+        private double lengthSum;
+        private int highestScore = -1;
+        private Double highestLength;
+        private LocalDate firstCollectAt;
 
-    /**
-     * 분류 로그의 사용자 선택 물고기를 비동기로 업데이트
-     */
-    @Async
-    public void updateClassificationLogAsync(Long classificationLogId, String selectedFishName) {
-        try {
-            classificationLogService.updateUserSelectedFish(classificationLogId, selectedFishName);
-            log.info("분류 로그 비동기 업데이트 완료: 로그ID={}, 선택물고기={}", classificationLogId, selectedFishName);
-        } catch (Exception e) {
-            log.error("분류 로그 비동기 업데이트 실패: 로그ID={}, 오류={}", classificationLogId, e.getMessage());
+        private void add(int score, double length, LocalDate collectAt) {
+            count++;
+            scoreSum += score;
+            lengthSum += length;
+            if (score > highestScore) {
+                highestScore = score;
+                highestLength = length;
+            }
+            if (firstCollectAt == null || collectAt.isBefore(firstCollectAt)) {
+                firstCollectAt = collectAt;
+            }
         }
     }
 
     // FishLogResponse 변환 메서드
-    private FishLogResponse convertToResponse(FishLog fishLog) {
+    private FishLogResponse convertToResponse(FishLog fishLog, String fishName) {
         return FishLogResponse.builder()
                 .id(fishLog.getId())
                 .fishId(fishLog.getFish().getId())
-                .fishName(fishLog.getFish().getName())
+                .fishName(fishName)
                 .collectAt(fishLog.getCollectAt())
                 .length(fishLog.getLength())
                 .score(fishLog.getScore())
@@ -0,0 +1,19 @@
+package com.fishiphedia.fish.service;
+
+import java.util.List;
+
+/**
+ * 어종 평균 길이/표준편차가 자동 보정되었음을 알리는 이벤트 (보정된 어종 점수 재계산 트리거)
+ */
+public class FishParametersCalibratedEvent {
+
+    private final List<Long> fishIds;
+
+    public FishParametersCalibratedEvent(List<Long> fishIds) {
+        this.fishIds = fishIds;
+    }
+
+    public List<Long> getFishIds() {
+        return fishIds;
+    }
+}
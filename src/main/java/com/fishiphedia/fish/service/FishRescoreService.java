@@ -0,0 +1,12 @@
+package com.fishiphedia.fish.service;
+
+import com.fishiphedia.fish.dto.FishRescoreStatusResponse;
+
+public interface FishRescoreService {
+    
+    // 어종의 기존 낚시 일지 점수 재계산 요청 (트랜잭션 커밋 이후 백그라운드 실행)
+    void requestRescore(Long fishId);
+    
+    // 가장 최근 재계산 진행 상황 (없으면 null)
+    FishRescoreStatusResponse getStatus(Long fishId);
+}
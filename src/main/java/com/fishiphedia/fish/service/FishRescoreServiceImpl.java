@@ -0,0 +1,254 @@
+package com.fishiphedia.fish.service;
+
+import com.fishiphedia.fish.dto.FishRescoreStatusResponse;
+import com.fishiphedia.fish.entity.Fish;
+import com.fishiphedia.fish.repository.FishRepository;
+import com.fishiphedia.ranking.dto.RankingRebuildJobResponse;
+import com.fishiphedia.ranking.service.RankingRebuildService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 어종 점수 파라미터(희귀도, 평균 길이, 표준편차) 변경 시 기존 낚시 일지 점수를 다시 계산한다.
+ * 일지를 id 순으로 청크 단위로 읽어 fork-join 풀에서 병렬로 점수를 계산하고,
+ * 청크마다 짧은 배치 업데이트로 반영해 운영 트래픽을 오래 막지 않는다.
+ * 점수 반영이 끝나면 영향받은 사용자 범위의 랭킹/기간별 랭킹/도감/사용자 총점을 재구성한다.
+ *
+ * 길이 백분율은 새 일지와 같은 FishScoreCalculator로 계산한다. 즉 검증 표본이 min-samples 이상인 어종은
+ * 재계산 시점의 길이 분포 스케치(DB에 합쳐진 분포 + 이 인스턴스의 미저장 표본) 기준으로,
+ * 그보다 적은 어종은 Fish의 평균 길이/표준편차 기준으로 과거 일지까지 다시 매긴다.
+ * 어종 수정과 자동 보정(FishParametersCalibratedEvent) 시 실행되며, 수동 실행도 가능하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FishRescoreServiceImpl implements FishRescoreService {
+    
+    private static final String COUNT_LOGS_SQL = "SELECT COUNT(*), MAX(id) FROM fish_log WHERE fish_id = ?";
+    
+    private static final String CHUNK_SQL =
+            "SELECT id, length, score FROM fish_log WHERE fish_id = ? AND id > ? AND id <= ? ORDER BY id LIMIT ?";
+    
+    // 읽은 뒤 다른 곳에서 점수가 바뀐 일지는 덮어쓰지 않음
+    private static final String UPDATE_SCORE_SQL = "UPDATE fish_log SET score = ? WHERE id = ? AND score = ?";
+    
+    private static final String ADJUST_AGGREGATE_SQL =
+            "UPDATE fish_log_aggregate SET score_sum = score_sum + ?, update_at = NOW() WHERE fish_id = ?";
+    
+    private static final String USER_RANGE_SQL = "SELECT MIN(user_id), MAX(user_id) FROM fish_log WHERE fish_id = ?";
+    
+    private static final int REBUILD_START_RETRIES = 60;
+    
+    private final FishRepository fishRepository;
+    private final FishScoreCalculator fishScoreCalculator;
+    private final RankingRebuildService rankingRebuildService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${app.fish.rescore.chunk-size:1000}")
+    private int chunkSize;
+    
+    @Value("${app.fish.rescore.parallelism:4}")
+    private int parallelism;
+    
+    private final Map<Long, Progress> progressByFish = new ConcurrentHashMap<>();
+    private ExecutorService jobExecutor;
+    private ForkJoinPool scoringPool;
+    
+    @PostConstruct
+    void initExecutors() {
+        // 재계산 작업은 하나씩 순서대로, 작업 내부 점수 계산만 병렬로
+        jobExecutor = Executors.newSingleThreadExecutor();
+        scoringPool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+    
+    @PreDestroy
+    void shutdownExecutors() {
+        jobExecutor.shutdown();
+        scoringPool.shutdown();
+    }
+    
+    @Override
+    public void requestRescore(Long fishId) {
+        Progress progress = new Progress(fishId);
+        progressByFish.put(fishId, progress);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jobExecutor.execute(() -> run(progress));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobExecutor.execute(() -> run(progress));
+            }
+        });
+    }
+    
+    // 자동 보정으로 평균 길이/표준편차가 바뀐 어종 재계산
+    @EventListener
+    public void onFishParametersCalibrated(FishParametersCalibratedEvent event) {
+        event.getFishIds().forEach(this::requestRescore);
+    }
+    
+    @Override
+    public FishRescoreStatusResponse getStatus(Long fishId) {
+        Progress progress = progressByFish.get(fishId);
+        return progress != null ? progress.toResponse() : null;
+    }
+    
+    private void run(Progress progress) {
+        Long fishId = progress.fishId;
+        try {
+            Fish fish = fishRepository.findById(fishId)
+                    .orElseThrow(() -> new RuntimeException("물고기를 찾을 수 없습니다."));
+            
+            // 시작 시점의 마지막 id까지만 처리 (이후 생성된 일지는 새 파라미터로 이미 계산됨)
+            long[] countAndMaxId = jdbcTemplate.queryForObject(COUNT_LOGS_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, fishId);
+            progress.totalLogs = countAndMaxId[0];
+            progress.startedAt = LocalDateTime.now();
+            progress.status = "RESCORING";
+            
+            long lastId = 0;
+            while (true) {
+                List<long[]> chunk = new ArrayList<>(chunkSize);
+                List<Double> lengths = new ArrayList<>(chunkSize);
+                jdbcTemplate.query(CHUNK_SQL, rs -> {
+                    chunk.add(new long[]{rs.getLong(1), rs.getLong(3)});
+                    double length = rs.getDouble(2);
+                    lengths.add(rs.wasNull() ? null : length);
+                }, fishId, lastId, countAndMaxId[1], chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                
+                List<Object[]> updates = rescoreChunk(fish, chunk, lengths);
+                int changed = 0;
+                if (!updates.isEmpty()) {
+                    // 일지 점수와 어종별 집계(점수 합)를 같은 트랜잭션에서 반영, 실제로 갱신된 일지의 변화량만 더함
+                    List<Object[]> params = updates.stream()
+                            .map(row -> new Object[]{row[0], row[1], (int) row[0] - (long) row[2]})
+                            .collect(Collectors.toList());
+                    changed = transactionTemplate.execute(status -> {
+                        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, params);
+                        long scoreDelta = 0;
+                        int updated = 0;
+                        for (int i = 0; i < counts.length; i++) {
+                            if (counts[i] == 1) {
+                                scoreDelta += (long) updates.get(i)[2];
+                                updated++;
+                            }
+                        }
+                        if (scoreDelta != 0) {
+                            jdbcTemplate.update(ADJUST_AGGREGATE_SQL, scoreDelta, fishId);
+                        }
+                        return updated;
+                    });
+                }
+                progress.processedLogs += chunk.size();
+                progress.changedLogs += changed;
+                lastId = chunk.get(chunk.size() - 1)[0];
+            }
+            log.info("어종 점수 재계산 완료: fishId={}, 일지={}건, 변경={}건", fishId, progress.processedLogs, progress.changedLogs);
+            
+            if (progress.changedLogs > 0) {
+                progress.status = "REBUILDING";
+                progress.rankingRebuildJobId = startRankingRebuild(fishId);
+            }
+            progress.status = "COMPLETED";
+        } catch (Exception e) {
+            progress.status = "FAILED";
+            progress.error = e.getMessage();
+            log.error("어종 점수 재계산 실패: fishId={}, 오류={}", fishId, e.getMessage());
+        } finally {
+            progress.finishedAt = LocalDateTime.now();
+        }
+    }
+    
+    // 청크 내 점수를 병렬로 계산, 점수가 바뀐 일지만 [newScore, id, 점수 변화량]으로 반환
+    private List<Object[]> rescoreChunk(Fish fish, List<long[]> chunk, List<Double> lengths) throws Exception {
+        return scoringPool.submit(() -> IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> {
+                    int newScore = fishScoreCalculator.calculateScore(fish, lengths.get(i));
+                    long[] row = chunk.get(i);
+                    return newScore != row[1] ? new Object[]{newScore, row[0], newScore - row[1]} : null;
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())).get();
+    }
+    
+    // 영향받은 사용자 범위 재구성 (다른 재구성 작업이 실행 중이면 끝날 때까지 대기)
+    private Long startRankingRebuild(Long fishId) throws InterruptedException {
+        long[] userRange = jdbcTemplate.queryForObject(USER_RANGE_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, fishId);
+        for (int attempt = 0; attempt < REBUILD_START_RETRIES; attempt++) {
+            try {
+                RankingRebuildJobResponse job = rankingRebuildService.startRebuild(userRange[0], userRange[1]);
+                return job.getJobId();
+            } catch (IllegalStateException e) {
+                Thread.sleep(5000);
+            }
+        }
+        throw new IllegalStateException("랭킹 재구성 작업을 시작하지 못했습니다.");
+    }
+    
+    private static class Progress {
+        private final Long fishId;
+        private volatile String status = "QUEUED";
+        private volatile long totalLogs;
+        private volatile long processedLogs;
+        private volatile long changedLogs;
+        private volatile Long rankingRebuildJobId;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        
+        private Progress(Long fishId) {
+            this.fishId = fishId;
+        }
+        
+        private FishRescoreStatusResponse toResponse() {
+            Double logsPerSecond = null;
+            if (startedAt != null) {
+                LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+                long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+                logsPerSecond = Math.round(processedLogs * 1000.0 / millis * 10.0) / 10.0;
+            }
+            return FishRescoreStatusResponse.builder()
+                    .fishId(fishId)
+                    .status(status)
+                    .totalLogs(totalLogs)
+                    .processedLogs(processedLogs)
+                    .changedLogs(changedLogs)
+                    .logsPerSecond(logsPerSecond)
+                    .rankingRebuildJobId(rankingRebuildJobId)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
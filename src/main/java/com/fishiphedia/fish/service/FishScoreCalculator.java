@@ -0,0 +1,109 @@
+package com.fishiphedia.fish.service;
+
+import com.fishiphedia.fish.entity.Fish;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 낚시 일지 점수 계산: rarity + 길이 백분율에 따른 가중치 * 길이 제곱근
+ * 길이 백분율은 어종별 실측 분포(KLL 스케치)를 우선 사용하고,
+ * 표본이 부족하면 Fish의 평균/표준편차로 정규분포를 가정해 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FishScoreCalculator {
+    
+    private final FishLengthDistributionService fishLengthDistributionService;
+    
+    public int calculateScore(Fish fish, Double length) {
+        if (length == null || length <= 0) {
+            return 50; // 기본 점수
+        }
+        
+        int rarity = fish.getRarityScore(); // 희귀도 점수
+        
+        // 길이 백분율 계산 (해당 어종에서 이 길이가 어느 정도 위치인지)
+        double lengthPercentile = calculateLengthPercentile(fish, length);
+        
+        // 비선형 가중치: 상위권은 큰 보상, 하위권은 완만한 감소
+        double lengthWeight = calculateNonLinearWeight(lengthPercentile);
+        
+        // 새로운 공식: rarity + 길이가중치 * 길이 제곱근
+        double score = rarity + (lengthWeight * Math.sqrt(length));
+        
+        // 점수 제한 없음 (최소 1점만 보장)
+        int finalScore = Math.max(1, (int) Math.round(score));
+        
+        // 일괄 재계산 시 로그가 과도해지지 않도록 debug 레벨
+        log.debug("점수 계산 - 물고기: {}, 길이: {}cm, 희귀도: {}, 백분율: {}%, 가중치: {}, 최종점수: {}", 
+                fish.getName(), length, rarity, String.format("%.1f", lengthPercentile),
+                String.format("%.2f", lengthWeight), finalScore);
+        
+        return finalScore;
+    }
+    
+    /**
+     * 어종 내 길이 백분율 (0-100)
+     */
+    public double calculateLengthPercentile(Fish fish, double length) {
+        Double empirical = fish.getId() != null ? fishLengthDistributionService.getPercentile(fish.getId(), length) : null;
+        if (empirical != null) {
+            return empirical;
+        }
+        return normalPercentile(length, fish.getAvgLength(), fish.getStdDeviation());
+    }
+    
+    /**
+     * 비선형 가중치 계산: 상위권 큰 보상, 하위권 완만한 감소
+     * @param percentile 백분율 (0-100)
+     * @return 가중치 (0.3 ~ 3.0)
+     */
+    public double calculateNonLinearWeight(double percentile) {
+        if (percentile >= 99.0) {
+            // 상위 1%: 최대 보상 (뽕맛)
+            return 3.0;
+        } else if (percentile >= 95.0) {
+            // 상위 5%: 큰 보상
+            return 2.0 + (percentile - 95.0) / 4.0; // 2.0 ~ 3.0
+        } else if (percentile >= 90.0) {
+            // 상위 10%: 중간 보상
+            return 1.5 + (percentile - 90.0) / 10.0; // 1.5 ~ 2.0
+        } else if (percentile >= 75.0) {
+            // 상위 25%: 작은 보상
+            return 1.2 + (percentile - 75.0) / 50.0; // 1.2 ~ 1.5
+        } else if (percentile >= 50.0) {
+            // 상위 50%: 기본 가중치 근처
+            return 1.0 + (percentile - 50.0) / 125.0; // 1.0 ~ 1.2
+        } else {
+            // 하위 50%: 완만한 감소 (최소 점수 보장)
+            return 0.3 + (percentile / 50.0) * 0.7; // 0.3 ~ 1.0
+        }
+    }
+    
+    /**
+     * 길이의 백분율을 계산 (정규분포 가정, 실측 분포가 없을 때 사용)
+     * @param length 실제 길이
+     * @param avgLength 평균 길이
+     * @param stdDeviation 표준편차
+     * @return 백분율 (0-100)
+     */
+    public static double normalPercentile(double length, double avgLength, double stdDeviation) {
+        if (stdDeviation <= 0) {
+            return length >= avgLength ? 75.0 : 25.0; // 표준편차가 0이면 평균 기준으로 구분
+        }
+        
+        // Z-score 계산 후 표준정규분포 누적확률로 변환
+        double zScore = (length - avgLength) / stdDeviation;
+        return 100.0 * standardNormalCdf(zScore);
+    }
+    
+    // Φ(z) = (1 + erf(z/√2)) / 2, erf는 Abramowitz-Stegun 7.1.26 근사 (오차 1.5e-7)
+    private static double standardNormalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2.0);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double erf = 1.0 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t - 0.284496736) * t + 0.254829592) * t * Math.exp(-x * x);
+        return z >= 0 ? 0.5 * (1.0 + erf) : 0.5 * (1.0 - erf);
+    }
+}
@@ -11,6 +11,9 @@ public interface FishService {
     
     // 물고기 목록 조회
     List<FishResponse> getAllFish();
+
+    // 물고기 목록 조회 (미리 직렬화된 JSON)
+    byte[] getAllFishJson();
     
     // 물고기 상세 조회
     FishResponse getFishById(Long id);
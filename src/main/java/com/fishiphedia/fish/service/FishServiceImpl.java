@@ -4,18 +4,16 @@ import com.fishiphedia.fish.dto.FishRequest;
 import com.fishiphedia.fish.dto.FishResponse;
 import com.fishiphedia.fish.dto.FishAverageScoreResponse;
 import com.fishiphedia.fish.entity.Fish;
-import com.fishiphedia.fish.entity.FishCollection;
-import com.fishiphedia.fish.entity.FishLog;
 import com.fishiphedia.fish.repository.FishRepository;
 import com.fishiphedia.fish.repository.FishCollectionRepository;
-import com.fishiphedia.fish.repository.FishLogRepository;
-import com.fishiphedia.user.entity.User;
+import com.fishiphedia.fish.repository.FishLogAggregateRepository;
 import com.fishiphedia.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,23 +23,30 @@ public class FishServiceImpl implements FishService {
 
     private final FishRepository fishRepository;
     private final FishCollectionRepository fishCollectionRepository;
-    private final FishLogRepository fishLogRepository;
+    private final FishLogAggregateRepository fishLogAggregateRepository;
     private final UserRepository userRepository;
+    private final FishRescoreService fishRescoreService;
+    private final FishCatalog fishCatalog;
+    private final FishCollectionViewCache fishCollectionViewCache;
 
     @Override
     @Transactional(readOnly = true)
     public List<FishResponse> getAllFish() {
-        return fishRepository.findAll().stream()
-                .map(this::convertToResponse)
+        return fishCatalog.getAll().stream()
+                .map(FishCatalog.Entry::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getAllFishJson() {
+        return fishCatalog.getAllJson();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public FishResponse getFishById(Long id) {
-        Fish fish = fishRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("물고기를 찾을 수 없습니다."));
-        return convertToResponse(fish);
+        return fishCatalog.require(id).toResponse();
     }
 
     @Override
@@ -58,6 +63,7 @@ public class FishServiceImpl implements FishService {
         fish.setRarityScore(request.getRarityScore());
 
         Fish savedFish = fishRepository.save(fish);
+        fishCatalog.invalidate();
         return convertToResponse(savedFish);
     }
 
@@ -72,12 +78,22 @@ public class FishServiceImpl implements FishService {
             throw new RuntimeException("이미 존재하는 물고기 이름입니다.");
         }
 
+        // 점수 계산 파라미터가 바뀌면 기존 일지 점수를 다시 계산해야 함
+        boolean scoringChanged = !Objects.equals(fish.getAvgLength(), request.getAvgLength())
+                || !Objects.equals(fish.getStdDeviation(), request.getStdDeviation())
+                || !Objects.equals(fish.getRarityScore(), request.getRarityScore());
+
         fish.setName(request.getName());
         fish.setAvgLength(request.getAvgLength());
         fish.setStdDeviation(request.getStdDeviation());
         fish.setRarityScore(request.getRarityScore());
 
         Fish updatedFish = fishRepository.save(fish);
+        fishCatalog.invalidate();
+        fishCollectionViewCache.evictAll();
+        if (scoringChanged) {
+            fishRescoreService.requestRescore(updatedFish.getId());
+        }
         return convertToResponse(updatedFish);
     }
 
@@ -87,27 +103,17 @@ public class FishServiceImpl implements FishService {
             throw new RuntimeException("물고기를 찾을 수 없습니다.");
         }
         fishRepository.deleteById(id);
+        fishCatalog.invalidate();
+        fishCollectionViewCache.evictAll();
     }
 
     @Override
     public void copyFishToCollection(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
-        List<Fish> allFish = fishRepository.findAll();
-        for (Fish fish : allFish) {
-            // 이미 존재하는지 체크(중복 방지)
-            boolean exists = fishCollectionRepository.findByUser(user).stream()
-                    .anyMatch(fc -> fc.getFish().getId().equals(fish.getId()));
-            if (!exists) {
-                FishCollection collection = new FishCollection();
-                collection.setUser(user);
-                collection.setFish(fish);
-                collection.setIsCollect(false);
-                collection.setHighestScore(0);
-                collection.setHighestLength(0.0);
-                fishCollectionRepository.save(collection);
-            }
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("유저를 찾을 수 없습니다.");
         }
+        // 없는 (유저, 물고기) 조합만 INSERT ... SELECT 한 문장으로 생성
+        fishCollectionRepository.insertMissingForUser(userId);
     }
 
     @Override
@@ -118,19 +124,15 @@ public class FishServiceImpl implements FishService {
     @Override
     @Transactional(readOnly = true)
     public FishAverageScoreResponse getAverageScore(Long fishId) {
-        // 물고기 존재 여부 확인
-        Fish fish = fishRepository.findById(fishId)
+        // 물고기와 어종별 집계를 한 행으로 조회
+        FishLogAggregateRepository.AverageScoreRow row = fishLogAggregateRepository.findAverageScoreRow(fishId)
                 .orElseThrow(() -> new RuntimeException("물고기를 찾을 수 없습니다."));
 
-        // 해당 어종의 모든 낚시 일지 조회
-        List<FishLog> fishLogs = fishLogRepository.findAll().stream()
-                .filter(log -> log.getFish().getId().equals(fishId))
-                .collect(Collectors.toList());
-
-        if (fishLogs.isEmpty()) {
+        long totalLogs = row.getLogCount() != null ? row.getLogCount() : 0L;
+        if (totalLogs == 0) {
             return FishAverageScoreResponse.builder()
                     .fishId(fishId)
-                    .fishName(fish.getName())
+                    .fishName(row.getFishName())
                     .averageScore(null)
                     .totalLogs(0)
                     .message("해당 어종의 낚시 기록이 없습니다.")
@@ -138,16 +140,13 @@ public class FishServiceImpl implements FishService {
         }
 
         // 평균 점수 계산
-        double averageScore = fishLogs.stream()
-                .mapToInt(FishLog::getScore)
-                .average()
-                .orElse(0.0);
+        double averageScore = (double) row.getScoreSum() / totalLogs;
 
         return FishAverageScoreResponse.builder()
                 .fishId(fishId)
-                .fishName(fish.getName())
+                .fishName(row.getFishName())
                 .averageScore(Math.round(averageScore * 10.0) / 10.0) // 소수점 첫째 자리까지
-                .totalLogs(fishLogs.size())
+                .totalLogs((int) totalLogs)
                 .message("평균 점수가 계산되었습니다.")
                 .build();
     }
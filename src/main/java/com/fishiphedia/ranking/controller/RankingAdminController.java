@@ -0,0 +1,78 @@
+package com.fishiphedia.ranking.controller;
+
+import com.fishiphedia.ranking.dto.RankingRebuildJobResponse;
+import com.fishiphedia.ranking.service.RankingCollectionService;
+import com.fishiphedia.ranking.service.RankingRebuildService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/ranking")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class RankingAdminController {
+
+    private final RankingCollectionService rankingCollectionService;
+    private final RankingRebuildService rankingRebuildService;
+
+    // 특정 사용자/물고기 RankingCollection 전체 재계산 (데이터 복구용)
+    @PostMapping("/recalculate")
+    public ResponseEntity<Map<String, Object>> recalculateRankingCollection(
+            @RequestParam Long userId,
+            @RequestParam Long fishId) {
+        try {
+            rankingCollectionService.recalculateRankingCollection(userId, fishId);
+            return ResponseEntity.ok(Map.of(
+                "userId", userId,
+                "fishId", fishId,
+                "message", "랭킹 재계산 완료"
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", e.getMessage()
+            ));
+        }
+    }
+
+    // fish_log 기준 랭킹/도감/사용자 점수 전체 재구성 작업 시작 (범위 미지정 시 전체 사용자)
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> startRebuild(
+            @RequestParam(required = false) Long fromUserId,
+            @RequestParam(required = false) Long toUserId) {
+        try {
+            RankingRebuildJobResponse response = rankingRebuildService.startRebuild(fromUserId, toUserId);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", e.getMessage()
+            ));
+        }
+    }
+
+    // 재구성 작업 진행 상황 조회
+    @GetMapping("/rebuild/{jobId}")
+    public ResponseEntity<?> getRebuildJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(rankingRebuildService.getJob(jobId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", e.getMessage()
+            ));
+        }
+    }
+
+    // 중단/실패한 재구성 작업을 남은 파티션부터 재개
+    @PostMapping("/rebuild/{jobId}/resume")
+    public ResponseEntity<?> resumeRebuild(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(rankingRebuildService.resumeRebuild(jobId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", e.getMessage()
+            ));
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.fishiphedia.ranking.controller;
 
+import com.fishiphedia.fish.service.FishCatalog;
 import com.fishiphedia.ranking.dto.FisherRankingResponse;
 import com.fishiphedia.ranking.dto.FishCollectionRankingResponse;
+import com.fishiphedia.ranking.dto.RankingPageResponse;
+import com.fishiphedia.ranking.entity.RankingWindow;
 import com.fishiphedia.ranking.service.RankingService;
+import com.fishiphedia.ranking.service.RankingSnapshotCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -16,28 +25,165 @@ import java.util.List;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final RankingSnapshotCache rankingSnapshotCache;
+    private final FishCatalog fishCatalog;
 
     // 낚시꾼 전체 랭킹 (UserInfo.totalScore)
     @GetMapping("/fisher")
-    public ResponseEntity<List<FisherRankingResponse>> getFisherRanking() {
-        return ResponseEntity.ok(rankingService.getFisherRanking());
+    public ResponseEntity<byte[]> getFisherRanking(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return snapshotResponse(rankingSnapshotCache.get("fisher", rankingService::getFisherRanking), ifNoneMatch);
+    }
+
+    // 내 낚시꾼 순위와 주변 랭킹
+    @GetMapping("/fisher/me")
+    public ResponseEntity<List<FisherRankingResponse>> getMyFisherRanking(
+            @RequestParam(value = "range", defaultValue = "5") int range) {
+        try {
+            return ResponseEntity.ok(rankingService.getMyFisherRanking(range));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // FishCollection 전체 랭킹 (totalScore)
     @GetMapping("/fish-collection")
-    public ResponseEntity<List<FishCollectionRankingResponse>> getFishCollectionRanking() {
-        return ResponseEntity.ok(rankingService.getFishCollectionRanking());
+    public ResponseEntity<byte[]> getFishCollectionRanking(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return snapshotResponse(rankingSnapshotCache.get("fish-collection", rankingService::getFishCollectionRanking), ifNoneMatch);
     }
 
     // 물고기별 전체 랭킹 (highestScore)
     @GetMapping("/fish")
-    public ResponseEntity<List<FishCollectionRankingResponse>> getFishRanking() {
-        return ResponseEntity.ok(rankingService.getFishRankingAllFish());
+    public ResponseEntity<byte[]> getFishRanking(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return snapshotResponse(rankingSnapshotCache.get("fish", rankingService::getFishRankingAllFish), ifNoneMatch);
     }
 
     // 특정 물고기별 랭킹 (highestScore)
     @GetMapping("/fish/{fishId}")
-    public ResponseEntity<List<FishCollectionRankingResponse>> getFishRankingByFish(@PathVariable Long fishId) {
-        return ResponseEntity.ok(rankingService.getFishRankingByFish(fishId));
+    public ResponseEntity<byte[]> getFishRankingByFish(
+            @PathVariable Long fishId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 없는 물고기 id로 스냅샷 키가 늘어나지 않도록 먼저 확인
+        try {
+            fishCatalog.require(fishId);
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+        return snapshotResponse(rankingSnapshotCache.get("fish/" + fishId, () -> rankingService.getFishRankingByFish(fishId)), ifNoneMatch);
+    }
+
+    // 낚시꾼 랭킹 페이지
+    @GetMapping("/fisher/page")
+    public ResponseEntity<RankingPageResponse<FisherRankingResponse>> getFisherRankingPage(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(rankingService.getFisherRankingPage(page, size));
+    }
+
+    // FishCollection 랭킹 페이지 (totalScore)
+    @GetMapping("/fish-collection/page")
+    public ResponseEntity<RankingPageResponse<FishCollectionRankingResponse>> getFishCollectionRankingPage(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(rankingService.getFishCollectionRankingPage(page, size));
+    }
+
+    // 물고기별 전체 랭킹 페이지 (highestScore)
+    @GetMapping("/fish/page")
+    public ResponseEntity<RankingPageResponse<FishCollectionRankingResponse>> getFishRankingPage(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(rankingService.getFishRankingAllFishPage(page, size));
+    }
+
+    // 특정 물고기별 랭킹 페이지 (highestScore)
+    @GetMapping("/fish/{fishId}/page")
+    public ResponseEntity<RankingPageResponse<FishCollectionRankingResponse>> getFishRankingByFishPage(
+            @PathVariable Long fishId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(rankingService.getFishRankingByFishPage(fishId, page, size));
+    }
+
+    // 특정 물고기 랭킹에서 내 순위와 주변 랭킹
+    @GetMapping("/fish/{fishId}/me")
+    public ResponseEntity<List<FishCollectionRankingResponse>> getMyFishRanking(
+            @PathVariable Long fishId,
+            @RequestParam(value = "range", defaultValue = "5") int range) {
+        try {
+            return ResponseEntity.ok(rankingService.getMyFishRanking(fishId, range));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 기간별 낚시꾼 랭킹 (window: weekly, monthly, season / date 미지정 시 현재 기간)
+    @GetMapping("/window/{window}/fisher")
+    public ResponseEntity<RankingPageResponse<FisherRankingResponse>> getWindowFisherRanking(
+            @PathVariable String window,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(rankingService.getWindowFisherRankingPage(RankingWindow.from(window), date, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 기간별 FishCollection 랭킹 (totalScore)
+    @GetMapping("/window/{window}/fish-collection")
+    public ResponseEntity<RankingPageResponse<FishCollectionRankingResponse>> getWindowFishCollectionRanking(
+            @PathVariable String window,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(rankingService.getWindowFishCollectionRankingPage(RankingWindow.from(window), date, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 기간별 물고기 랭킹 (highestScore)
+    @GetMapping("/window/{window}/fish")
+    public ResponseEntity<RankingPageResponse<FishCollectionRankingResponse>> getWindowFishRanking(
+            @PathVariable String window,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(rankingService.getWindowFishRankingAllFishPage(RankingWindow.from(window), date, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 기간별 특정 물고기 랭킹 (highestScore)
+    @GetMapping("/window/{window}/fish/{fishId}")
+    public ResponseEntity<RankingPageResponse<FishCollectionRankingResponse>> getWindowFishRankingByFish(
+            @PathVariable String window,
+            @PathVariable Long fishId,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(rankingService.getWindowFishRankingByFishPage(RankingWindow.from(window), date, fishId, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 스냅샷 응답 (ETag 일치 시 304)
+    private ResponseEntity<byte[]> snapshotResponse(RankingSnapshotCache.Snapshot snapshot, String ifNoneMatch) {
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
     }
-} 
\ No newline at end of file
+}
@@ -1,10 +1,12 @@
 package com.fishiphedia.ranking.dto;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class FishCollectionRankingResponse {
     private Long userId;
     private String name;
@@ -13,4 +15,17 @@ public class FishCollectionRankingResponse {
     private Integer totalScore;
     private Integer highestScore;
     private Double highestLength;
+    private Integer rank;
+
+    // JPQL 생성자 표현식용
+    public FishCollectionRankingResponse(Long userId, String name, Long fishId, String fishName,
+                                         Integer totalScore, Integer highestScore, Double highestLength) {
+        this.userId = userId;
+        this.name = name;
+        this.fishId = fishId;
+        this.fishName = fishName;
+        this.totalScore = totalScore;
+        this.highestScore = highestScore;
+        this.highestLength = highestLength;
+    }
 } 
\ No newline at end of file
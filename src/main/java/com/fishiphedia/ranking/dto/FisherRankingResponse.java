@@ -1,12 +1,22 @@
 package com.fishiphedia.ranking.dto;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class FisherRankingResponse {
     private Long userId;
     private String name;
     private Integer totalScore;
+    private Integer rank;
+
+    // JPQL 생성자 표현식용 (SUM 결과는 Long)
+    public FisherRankingResponse(Long userId, String name, Long totalScore) {
+        this.userId = userId;
+        this.name = name;
+        this.totalScore = totalScore != null ? totalScore.intValue() : 0;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.fishiphedia.ranking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingPageResponse<T> {
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private List<T> rankings;
+}
@@ -0,0 +1,24 @@
+package com.fishiphedia.ranking.dto;
+
+import com.fishiphedia.ranking.entity.RankingRebuildStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class RankingRebuildJobResponse {
+    private Long jobId;
+    private RankingRebuildStatus status;
+    private Long fromUserId;
+    private Long toUserId;
+    private Integer totalPartitions;
+    private Long completedPartitions;
+    private Long failedPartitions;
+    private Long processedLogs;
+    private Double progress; // 0~100
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+}
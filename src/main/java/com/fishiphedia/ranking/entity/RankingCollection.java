@@ -8,7 +8,18 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "ranking_collection")
+@Table(
+    name = "ranking_collection",
+    // 한 사용자는 물고기 종류당 하나의 랭킹 레코드만 가질 수 있음
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_fish", columnNames = {"user_id", "fish_id"})
+    },
+    indexes = {
+        @Index(name = "idx_rc_total_score", columnList = "total_score"),
+        @Index(name = "idx_rc_highest_score", columnList = "highest_score"),
+        @Index(name = "idx_rc_fish_highest_score", columnList = "fish_id, highest_score")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,10 +48,4 @@ public class RankingCollection {
     
     @Column(name = "catch_count", nullable = false)
     private Integer catchCount = 0;
-    
-    // 유니크 제약조건: 한 사용자는 물고기 종류당 하나의 랭킹 레코드만 가질 수 있음
-    @Table(uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"user_id", "fish_id"})
-    })
-    public static class TableConstraints {}
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.fishiphedia.ranking.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ranking_rebuild_job")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RankingRebuildJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RankingRebuildStatus status = RankingRebuildStatus.PENDING;
+    
+    // 재구성 대상 사용자 id 범위 (양 끝 포함)
+    @Column(name = "from_user_id", nullable = false)
+    private Long fromUserId;
+    
+    @Column(name = "to_user_id", nullable = false)
+    private Long toUserId;
+    
+    @Column(name = "partition_size", nullable = false)
+    private Integer partitionSize;
+    
+    @Column(name = "total_partitions", nullable = false)
+    private Integer totalPartitions;
+    
+    @Column(name = "create_at", nullable = false)
+    private LocalDateTime createAt;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createAt = LocalDateTime.now();
+    }
+}
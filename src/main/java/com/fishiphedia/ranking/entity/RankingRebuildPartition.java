@@ -0,0 +1,52 @@
+package com.fishiphedia.ranking.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "ranking_rebuild_partition",
+    indexes = {
+        @Index(name = "idx_rrp_job_status", columnList = "job_id, status")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class RankingRebuildPartition {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private RankingRebuildJob job;
+    
+    // 파티션이 담당하는 사용자 id 범위 (양 끝 포함)
+    @Column(name = "start_user_id", nullable = false)
+    private Long startUserId;
+    
+    @Column(name = "end_user_id", nullable = false)
+    private Long endUserId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RankingRebuildStatus status = RankingRebuildStatus.PENDING;
+    
+    @Column(name = "processed_logs", nullable = false)
+    private Long processedLogs = 0L;
+    
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+    
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+    
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
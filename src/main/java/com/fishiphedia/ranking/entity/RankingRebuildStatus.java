@@ -0,0 +1,8 @@
+package com.fishiphedia.ranking.entity;
+
+public enum RankingRebuildStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,87 @@
+package com.fishiphedia.ranking.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 기간별 랭킹 집계 단위.
+ * retention은 현재 기간을 포함해 보관하는 기간 수이며, 그 이전 버킷은 만료 작업에서 삭제된다.
+ */
+public enum RankingWindow {
+    WEEKLY("주간", 4),
+    MONTHLY("월간", 3),
+    SEASON("시즌", 4);
+
+    private final String koreanName;
+    private final int retention;
+
+    RankingWindow(String koreanName, int retention) {
+        this.koreanName = koreanName;
+        this.retention = retention;
+    }
+
+    public String getKoreanName() {
+        return koreanName;
+    }
+
+    public int getRetention() {
+        return retention;
+    }
+
+    /**
+     * 주어진 날짜가 속한 기간의 시작일
+     * (주간: 월요일, 월간: 1일, 시즌: 3·6·9·12월 1일 기준 계절)
+     */
+    public LocalDate startOf(LocalDate date) {
+        switch (this) {
+            case WEEKLY:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY:
+                return date.withDayOfMonth(1);
+            default:
+                int month = date.getMonthValue();
+                int seasonIndex = (month % 12) / 3;
+                if (seasonIndex == 0) {
+                    // 12~2월은 12월에 시작하는 겨울 시즌
+                    int year = month == 12 ? date.getYear() : date.getYear() - 1;
+                    return LocalDate.of(year, 12, 1);
+                }
+                return LocalDate.of(date.getYear(), seasonIndex * 3, 1);
+        }
+    }
+
+    /**
+     * 기간 시작일에서 count개 이전 기간의 시작일
+     */
+    public LocalDate minus(LocalDate windowStart, int count) {
+        switch (this) {
+            case WEEKLY:
+                return windowStart.minusWeeks(count);
+            case MONTHLY:
+                return windowStart.minusMonths(count);
+            default:
+                return windowStart.minusMonths(3L * count);
+        }
+    }
+
+    /**
+     * 보관 대상 중 가장 오래된 기간의 시작일 (이보다 이전 버킷은 만료)
+     */
+    public LocalDate retentionCutoff(LocalDate today) {
+        return minus(startOf(today), retention - 1);
+    }
+
+    public boolean isRetained(LocalDate windowStart, LocalDate today) {
+        return !windowStart.isBefore(retentionCutoff(today));
+    }
+
+    public static RankingWindow from(String value) {
+        for (RankingWindow window : RankingWindow.values()) {
+            if (window.name().equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 랭킹 기간입니다: " + value);
+    }
+}
@@ -0,0 +1,60 @@
+package com.fishiphedia.ranking.entity;
+
+import com.fishiphedia.fish.entity.Fish;
+import com.fishiphedia.user.entity.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(
+    name = "seasonal_ranking_collection",
+    // 기간 버킷마다 사용자-물고기 조합당 하나의 레코드
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_src_window_user_fish", columnNames = {"window_type", "window_start", "user_id", "fish_id"})
+    },
+    indexes = {
+        @Index(name = "idx_src_window_total_score", columnList = "window_type, window_start, total_score"),
+        @Index(name = "idx_src_window_highest_score", columnList = "window_type, window_start, highest_score"),
+        @Index(name = "idx_src_window_fish_highest_score", columnList = "window_type, window_start, fish_id, highest_score")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class SeasonalRankingCollection {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "window_type", nullable = false, length = 20)
+    private RankingWindow windowType;
+    
+    @Column(name = "window_start", nullable = false)
+    private LocalDate windowStart;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fish_id", nullable = false)
+    private Fish fish;
+    
+    @Column(name = "highest_score", nullable = false)
+    private Integer highestScore = 0;
+    
+    @Column(name = "highest_length")
+    private Double highestLength = 0.0;
+    
+    @Column(name = "total_score", nullable = false)
+    private Integer totalScore = 0;
+    
+    @Column(name = "catch_count", nullable = false)
+    private Integer catchCount = 0;
+}
@@ -1,9 +1,14 @@
 package com.fishiphedia.ranking.repository;
 
 import com.fishiphedia.fish.entity.Fish;
+import com.fishiphedia.ranking.dto.FishCollectionRankingResponse;
+import com.fishiphedia.ranking.dto.FisherRankingResponse;
 import com.fishiphedia.ranking.entity.RankingCollection;
 import com.fishiphedia.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,27 +25,76 @@ public interface RankingCollectionRepository extends JpaRepository<RankingCollec
     // 사용자와 물고기로 특정 랭킹 컬렉션 조회
     Optional<RankingCollection> findByUserAndFish(User user, Fish fish);
     
-    // 물고기별 최고 점수 순 랭킹 조회
-    List<RankingCollection> findByFishOrderByHighestScoreDesc(Fish fish);
+    // 레코드가 없을 때만 0으로 생성 (동시 요청과 겹쳐도 유니크 키 기준으로 무시)
+    @Modifying
+    @Query(value = "INSERT INTO ranking_collection (user_id, fish_id, highest_score, highest_length, total_score, catch_count) " +
+                   "VALUES (:userId, :fishId, 0, 0.0, 0, 0) " +
+                   "ON DUPLICATE KEY UPDATE user_id = ranking_collection.user_id",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("fishId") Long fishId);
     
-    // 물고기별 최고 점수 순 랭킹 조회 (fishId로)
-    @Query("SELECT rc FROM RankingCollection rc WHERE rc.fish.id = :fishId ORDER BY rc.highestScore DESC")
-    List<RankingCollection> findByFishIdOrderByHighestScoreDesc(@Param("fishId") Long fishId);
+    // 검증된 조과 1건 반영 (없으면 생성, 있으면 총점/횟수 증분과 최고 기록 갱신을 DB에서 원자적으로 수행)
+    @Modifying
+    @Query(value = "INSERT INTO ranking_collection (user_id, fish_id, highest_score, highest_length, total_score, catch_count) " +
+                   "VALUES (:userId, :fishId, :score, :length, :score, 1) " +
+                   "ON DUPLICATE KEY UPDATE highest_score = GREATEST(highest_score, VALUES(highest_score)), " +
+                   "highest_length = GREATEST(COALESCE(highest_length, 0), VALUES(highest_length)), " +
+                   "total_score = total_score + VALUES(total_score), " +
+                   "catch_count = catch_count + 1",
+           nativeQuery = true)
+    int upsertCatch(@Param("userId") Long userId, @Param("fishId") Long fishId,
+                    @Param("score") int score, @Param("length") double length);
     
-    // 전체 총점 순 랭킹 조회 (모든 물고기 통합)
-    @Query("SELECT rc.user, SUM(rc.totalScore) as totalScore FROM RankingCollection rc GROUP BY rc.user ORDER BY totalScore DESC")
-    List<Object[]> findUserTotalScoreRanking();
+    // 전체 총점 순 랭킹 조회 (모든 물고기 통합, 사용자 이름까지 한 번에 조회)
+    @Query("SELECT new com.fishiphedia.ranking.dto.FisherRankingResponse(u.id, COALESCE(ui.name, u.loginId), SUM(rc.totalScore)) " +
+           "FROM RankingCollection rc JOIN rc.user u LEFT JOIN u.userInfo ui " +
+           "GROUP BY u.id, ui.name, u.loginId " +
+           "ORDER BY SUM(rc.totalScore) DESC")
+    List<FisherRankingResponse> findUserTotalScoreRanking();
     
-    // 물고기별 총점 순 랭킹 조회
-    List<RankingCollection> findByFishOrderByTotalScoreDesc(Fish fish);
+    // 랭킹 응답 DTO 조회 (user, user_info, fish 조인 한 번으로 매핑)
+    String RANKING_RESPONSE_SELECT =
+            "SELECT new com.fishiphedia.ranking.dto.FishCollectionRankingResponse(" +
+            "u.id, COALESCE(ui.name, u.loginId), f.id, f.name, rc.totalScore, rc.highestScore, rc.highestLength) " +
+            "FROM RankingCollection rc JOIN rc.user u LEFT JOIN u.userInfo ui JOIN rc.fish f ";
     
-    // 물고기별 총점 순 랭킹 조회 (fishId로)
-    @Query("SELECT rc FROM RankingCollection rc WHERE rc.fish.id = :fishId ORDER BY rc.totalScore DESC")
-    List<RankingCollection> findByFishIdOrderByTotalScoreDesc(@Param("fishId") Long fishId);
+    // 페이지 단위 랭킹 조회 (count 쿼리 없이 Slice로 조회)
+    // 동점은 id 역순: 점수 인덱스 뒤의 PK까지 같은 방향(DESC, DESC)으로 역방향 스캔하면 정렬(filesort)이 필요 없음
+    @Query(RANKING_RESPONSE_SELECT + "ORDER BY rc.totalScore DESC, rc.id DESC")
+    Slice<FishCollectionRankingResponse> findRankingResponsesOrderByTotalScore(Pageable pageable);
     
-    // 전체 랭킹 컬렉션을 총점 순으로 조회
-    List<RankingCollection> findAllByOrderByTotalScoreDesc();
+    @Query(RANKING_RESPONSE_SELECT + "ORDER BY rc.highestScore DESC, rc.id DESC")
+    Slice<FishCollectionRankingResponse> findRankingResponsesOrderByHighestScore(Pageable pageable);
     
-    // 전체 랭킹 컬렉션을 최고점수 순으로 조회
-    List<RankingCollection> findAllByOrderByHighestScoreDesc();
-}
\ No newline at end of file
+    @Query(RANKING_RESPONSE_SELECT + "WHERE f.id = :fishId ORDER BY rc.highestScore DESC, rc.id DESC")
+    Slice<FishCollectionRankingResponse> findRankingResponsesByFishIdOrderByHighestScore(@Param("fishId") Long fishId, Pageable pageable);
+    
+    // 물고기별 내 랭킹 위치 (id, highestScore)
+    @Query("SELECT rc.id AS id, rc.highestScore AS highestScore FROM RankingCollection rc " +
+           "WHERE rc.user.id = :userId AND rc.fish.id = :fishId")
+    Optional<RankingKey> findRankingKey(@Param("userId") Long userId, @Param("fishId") Long fishId);
+    
+    // 물고기별 나보다 앞선 레코드 수 (highestScore DESC, id DESC 기준)
+    @Query("SELECT COUNT(rc) FROM RankingCollection rc WHERE rc.fish.id = :fishId AND " +
+           "(rc.highestScore > :score OR (rc.highestScore = :score AND rc.id > :id))")
+    long countAheadInFish(@Param("fishId") Long fishId, @Param("score") Integer score, @Param("id") Long id);
+    
+    // 물고기별 바로 앞 순위들 (가까운 순)
+    @Query(RANKING_RESPONSE_SELECT + "WHERE f.id = :fishId AND " +
+           "(rc.highestScore > :score OR (rc.highestScore = :score AND rc.id > :id)) " +
+           "ORDER BY rc.highestScore ASC, rc.id ASC")
+    List<FishCollectionRankingResponse> findAheadInFish(@Param("fishId") Long fishId, @Param("score") Integer score,
+                                                        @Param("id") Long id, Pageable pageable);
+    
+    // 물고기별 내 순위부터 뒤 순위들 (가까운 순, 나 포함)
+    @Query(RANKING_RESPONSE_SELECT + "WHERE f.id = :fishId AND " +
+           "(rc.highestScore < :score OR (rc.highestScore = :score AND rc.id <= :id)) " +
+           "ORDER BY rc.highestScore DESC, rc.id DESC")
+    List<FishCollectionRankingResponse> findFromMeInFish(@Param("fishId") Long fishId, @Param("score") Integer score,
+                                                         @Param("id") Long id, Pageable pageable);
+    
+    interface RankingKey {
+        Long getId();
+        Integer getHighestScore();
+    }
+}
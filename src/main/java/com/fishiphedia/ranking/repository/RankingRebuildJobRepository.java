@@ -0,0 +1,9 @@
+package com.fishiphedia.ranking.repository;
+
+import com.fishiphedia.ranking.entity.RankingRebuildJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RankingRebuildJobRepository extends JpaRepository<RankingRebuildJob, Long> {
+}
@@ -0,0 +1,26 @@
+package com.fishiphedia.ranking.repository;
+
+import com.fishiphedia.ranking.entity.RankingRebuildPartition;
+import com.fishiphedia.ranking.entity.RankingRebuildStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RankingRebuildPartitionRepository extends JpaRepository<RankingRebuildPartition, Long> {
+    
+    // 아직 완료되지 않은 파티션 (재개 시 처리 대상)
+    List<RankingRebuildPartition> findByJobIdAndStatusNotOrderByStartUserIdAsc(Long jobId, RankingRebuildStatus status);
+    
+    long countByJobIdAndStatus(Long jobId, RankingRebuildStatus status);
+    
+    @Query("SELECT COALESCE(SUM(p.processedLogs), 0) FROM RankingRebuildPartition p WHERE p.job.id = :jobId")
+    long sumProcessedLogs(@Param("jobId") Long jobId);
+    
+    // 가장 최근 실패 사유
+    @Query("SELECT p.errorMessage FROM RankingRebuildPartition p WHERE p.job.id = :jobId AND p.status = com.fishiphedia.ranking.entity.RankingRebuildStatus.FAILED ORDER BY p.finishedAt DESC")
+    List<String> findErrorMessages(@Param("jobId") Long jobId);
+}
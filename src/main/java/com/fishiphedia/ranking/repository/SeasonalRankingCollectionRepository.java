@@ -0,0 +1,87 @@
+package com.fishiphedia.ranking.repository;
+
+import com.fishiphedia.fish.entity.Fish;
+import com.fishiphedia.ranking.dto.FishCollectionRankingResponse;
+import com.fishiphedia.ranking.dto.FisherRankingResponse;
+import com.fishiphedia.ranking.entity.RankingWindow;
+import com.fishiphedia.ranking.entity.SeasonalRankingCollection;
+import com.fishiphedia.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface SeasonalRankingCollectionRepository extends JpaRepository<SeasonalRankingCollection, Long> {
+    
+    // 기간 버킷에 검증된 조과 1건 반영 (없으면 생성, 있으면 증분/최고 기록 갱신을 DB에서 원자적으로 수행)
+    @Modifying
+    @Query(value = "INSERT INTO seasonal_ranking_collection (window_type, window_start, user_id, fish_id, " +
+                   "highest_score, highest_length, total_score, catch_count) " +
+                   "VALUES (:windowType, :windowStart, :userId, :fishId, :score, :length, :score, 1) " +
+                   "ON DUPLICATE KEY UPDATE highest_score = GREATEST(highest_score, VALUES(highest_score)), " +
+                   "highest_length = GREATEST(COALESCE(highest_length, 0), VALUES(highest_length)), " +
+                   "total_score = total_score + VALUES(total_score), " +
+                   "catch_count = catch_count + 1",
+           nativeQuery = true)
+    int upsertCatch(@Param("windowType") String windowType, @Param("windowStart") LocalDate windowStart,
+                    @Param("userId") Long userId, @Param("fishId") Long fishId,
+                    @Param("score") int score, @Param("length") double length);
+    
+    // 재계산한 기간 버킷 값으로 덮어쓰기 (삭제 이후 동시에 생긴 레코드가 있어도 유니크 키 위반 없이 교체)
+    @Modifying
+    @Query(value = "INSERT INTO seasonal_ranking_collection (window_type, window_start, user_id, fish_id, " +
+                   "highest_score, highest_length, total_score, catch_count) " +
+                   "VALUES (:windowType, :windowStart, :userId, :fishId, :highestScore, :highestLength, :totalScore, :catchCount) " +
+                   "ON DUPLICATE KEY UPDATE highest_score = VALUES(highest_score), highest_length = VALUES(highest_length), " +
+                   "total_score = VALUES(total_score), catch_count = VALUES(catch_count)",
+           nativeQuery = true)
+    int replaceBucket(@Param("windowType") String windowType, @Param("windowStart") LocalDate windowStart,
+                      @Param("userId") Long userId, @Param("fishId") Long fishId,
+                      @Param("highestScore") int highestScore, @Param("highestLength") double highestLength,
+                      @Param("totalScore") int totalScore, @Param("catchCount") int catchCount);
+    
+    // 사용자-물고기 조합의 모든 기간 버킷 삭제 (재계산용)
+    @Modifying
+    @Query("DELETE FROM SeasonalRankingCollection s WHERE s.user = :user AND s.fish = :fish")
+    int deleteByUserAndFish(@Param("user") User user, @Param("fish") Fish fish);
+    
+    // 보관 기간이 지난 버킷 삭제
+    @Modifying
+    @Query("DELETE FROM SeasonalRankingCollection s WHERE s.windowType = :windowType AND s.windowStart < :cutoff")
+    int deleteExpired(@Param("windowType") RankingWindow windowType, @Param("cutoff") LocalDate cutoff);
+    
+    // 기간별 낚시꾼 총점 랭킹
+    @Query("SELECT new com.fishiphedia.ranking.dto.FisherRankingResponse(u.id, COALESCE(ui.name, u.loginId), SUM(s.totalScore)) " +
+           "FROM SeasonalRankingCollection s JOIN s.user u LEFT JOIN u.userInfo ui " +
+           "WHERE s.windowType = :windowType AND s.windowStart = :windowStart " +
+           "GROUP BY u.id, ui.name, u.loginId " +
+           "ORDER BY SUM(s.totalScore) DESC, u.id DESC")
+    Slice<FisherRankingResponse> findFisherRanking(@Param("windowType") RankingWindow windowType,
+                                                   @Param("windowStart") LocalDate windowStart, Pageable pageable);
+    
+    // 기간별 랭킹 응답 DTO 조회 (동점은 id 역순, 인덱스 역방향 스캔으로 정렬 없이 조회)
+    String WINDOW_RESPONSE_SELECT =
+            "SELECT new com.fishiphedia.ranking.dto.FishCollectionRankingResponse(" +
+            "u.id, COALESCE(ui.name, u.loginId), f.id, f.name, s.totalScore, s.highestScore, s.highestLength) " +
+            "FROM SeasonalRankingCollection s JOIN s.user u LEFT JOIN u.userInfo ui JOIN s.fish f " +
+            "WHERE s.windowType = :windowType AND s.windowStart = :windowStart ";
+    
+    @Query(WINDOW_RESPONSE_SELECT + "ORDER BY s.totalScore DESC, s.id DESC")
+    Slice<FishCollectionRankingResponse> findRankingResponsesOrderByTotalScore(
+            @Param("windowType") RankingWindow windowType, @Param("windowStart") LocalDate windowStart, Pageable pageable);
+    
+    @Query(WINDOW_RESPONSE_SELECT + "ORDER BY s.highestScore DESC, s.id DESC")
+    Slice<FishCollectionRankingResponse> findRankingResponsesOrderByHighestScore(
+            @Param("windowType") RankingWindow windowType, @Param("windowStart") LocalDate windowStart, Pageable pageable);
+    
+    @Query(WINDOW_RESPONSE_SELECT + "AND f.id = :fishId ORDER BY s.highestScore DESC, s.id DESC")
+    Slice<FishCollectionRankingResponse> findRankingResponsesByFishIdOrderByHighestScore(
+            @Param("windowType") RankingWindow windowType, @Param("windowStart") LocalDate windowStart,
+            @Param("fishId") Long fishId, Pageable pageable);
+}
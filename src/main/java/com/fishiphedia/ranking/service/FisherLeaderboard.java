@@ -0,0 +1,167 @@
+package com.fishiphedia.ranking.service;
+
+import com.fishiphedia.common.util.OrderStatisticTree;
+import com.fishiphedia.ranking.dto.FisherRankingResponse;
+import com.fishiphedia.ranking.repository.RankingCollectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 낚시꾼 전체 랭킹 메모리 리더보드
+ * 시작 시 RankingCollection 합계로 채우고, 검증으로 총점이 바뀔 때 O(log n)으로 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FisherLeaderboard {
+
+    private static final Comparator<Entry> RANKING_ORDER = Comparator
+            .comparingLong((Entry e) -> e.totalScore).reversed()
+            .thenComparingLong(e -> e.userId);
+
+    private final RankingCollectionRepository rankingCollectionRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OrderStatisticTree<Entry> tree = new OrderStatisticTree<>(RANKING_ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * DB 기준으로 리더보드 전체 재구성
+     */
+    public void reload() {
+        List<FisherRankingResponse> results = rankingCollectionRepository.findUserTotalScoreRanking();
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            entries.clear();
+            for (FisherRankingResponse result : results) {
+                Entry entry = new Entry(result.getUserId(), result.getName(), result.getTotalScore());
+                entries.put(entry.userId, entry);
+                tree.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("낚시꾼 리더보드 구성 완료: {}명", results.size());
+    }
+
+    /**
+     * 사용자 총점에 delta 반영
+     */
+    public void addScore(Long userId, String name, long delta) {
+        lock.writeLock().lock();
+        try {
+            Entry old = entries.get(userId);
+            long totalScore = (old != null ? old.totalScore : 0L) + delta;
+            String entryName = name != null ? name : (old != null ? old.name : null);
+            if (old != null) {
+                tree.remove(old);
+            }
+            Entry entry = new Entry(userId, entryName, totalScore);
+            entries.put(userId, entry);
+            tree.add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 랭킹 조회 (offset부터 limit명)
+     */
+    public List<FisherRankingResponse> getRange(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int from = Math.max(0, offset);
+            List<Entry> range = tree.range(from, limit);
+            return toResponses(range, from);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<FisherRankingResponse> getAll() {
+        return getRange(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 사용자 순위 (1부터 시작), 랭킹에 없으면 null
+     */
+    public Integer getRank(Long userId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(userId);
+            return entry != null ? tree.rankOf(entry) + 1 : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 앞뒤 range명씩 포함한 주변 랭킹
+     */
+    public List<FisherRankingResponse> getAround(Long userId, int range) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return List.of();
+            }
+            int from = Math.max(0, tree.rankOf(entry) - range);
+            List<Entry> around = tree.range(from, (int) Math.min(Integer.MAX_VALUE, range * 2L + 1));
+            return toResponses(around, from);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<FisherRankingResponse> toResponses(List<Entry> range, int from) {
+        int[] rank = {from};
+        return range.stream()
+                .map(entry -> {
+                    FisherRankingResponse dto = new FisherRankingResponse();
+                    dto.setUserId(entry.userId);
+                    dto.setName(entry.name);
+                    dto.setTotalScore((int) entry.totalScore);
+                    dto.setRank(++rank[0]);
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static final class Entry {
+        private final Long userId;
+        private final String name;
+        private final long totalScore;
+
+        private Entry(Long userId, String name, long totalScore) {
+            this.userId = userId;
+            this.name = name;
+            this.totalScore = totalScore;
+        }
+    }
+}
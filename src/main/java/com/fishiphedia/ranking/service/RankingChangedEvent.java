@@ -0,0 +1,17 @@
+package com.fishiphedia.ranking.service;
+
+/**
+ * 랭킹 집계가 변경되었음을 알리는 이벤트 (커밋 이후 스냅샷 재생성 트리거)
+ */
+public class RankingChangedEvent {
+
+    private final Long userId;
+
+    public RankingChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
@@ -8,7 +8,7 @@ import com.fishiphedia.user.entity.User;
 public interface RankingCollectionService {
     
     /**
-     * FishLog가 검증될 때 RankingCollection을 업데이트
+     * FishLog가 검증될 때 RankingCollection을 업데이트 (검증된 로그 1건만큼 증분 반영)
      */
     void updateRankingCollection(FishLog fishLog);
     
@@ -18,7 +18,12 @@ public interface RankingCollectionService {
     RankingCollection getOrCreateRankingCollection(User user, Fish fish);
     
     /**
-     * 특정 사용자의 모든 certified FishLog를 기반으로 RankingCollection 재계산
+     * 특정 사용자의 모든 certified FishLog를 기반으로 RankingCollection 재계산 (데이터 복구용)
      */
     void recalculateRankingCollection(User user, Fish fish);
+    
+    /**
+     * 사용자 ID, 물고기 ID로 RankingCollection 재계산 (관리자 복구용)
+     */
+    void recalculateRankingCollection(Long userId, Long fishId);
 }
\ No newline at end of file
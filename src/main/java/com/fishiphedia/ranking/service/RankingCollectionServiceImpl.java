@@ -3,13 +3,18 @@ package com.fishiphedia.ranking.service;
 import com.fishiphedia.fish.entity.Fish;
 import com.fishiphedia.fish.entity.FishLog;
 import com.fishiphedia.fish.repository.FishLogRepository;
+import com.fishiphedia.fish.repository.FishRepository;
 import com.fishiphedia.ranking.entity.RankingCollection;
 import com.fishiphedia.ranking.repository.RankingCollectionRepository;
 import com.fishiphedia.user.entity.User;
+import com.fishiphedia.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -21,6 +26,11 @@ public class RankingCollectionServiceImpl implements RankingCollectionService {
     
     private final RankingCollectionRepository rankingCollectionRepository;
     private final FishLogRepository fishLogRepository;
+    private final FisherLeaderboard fisherLeaderboard;
+    private final UserRepository userRepository;
+    private final FishRepository fishRepository;
+    private final SeasonalRankingService seasonalRankingService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public void updateRankingCollection(FishLog fishLog) {
@@ -31,34 +41,52 @@ public class RankingCollectionServiceImpl implements RankingCollectionService {
         
         User user = fishLog.getUser();
         Fish fish = fishLog.getFish();
+        int score = fishLog.getScore();
+        double length = fishLog.getLength() != null ? fishLog.getLength() : 0.0;
         
-        // RankingCollection 조회 또는 생성
-        RankingCollection rankingCollection = getOrCreateRankingCollection(user, fish);
+        // 검증된 로그 1건만큼 증분 반영 (조회 없이 upsert 한 번, 여러 인스턴스에서 동시에 반영해도 유실 없음)
+        rankingCollectionRepository.upsertCatch(user.getId(), fish.getId(), score, length);
         
-        // certified=true인 모든 FishLog로 재계산
-        recalculateRankingCollection(user, fish);
+        // 주간/월간/시즌 기간별 집계에도 반영
+        seasonalRankingService.applyCatch(fishLog);
+        
+        // 리더보드에 총점 변화 반영 (커밋 이후)
+        applyLeaderboardDelta(user, score);
+        eventPublisher.publishEvent(new RankingChangedEvent(user.getId()));
         
         log.info("RankingCollection 업데이트 완료 - User: {}, Fish: {}", user.getLoginId(), fish.getName());
     }
     
+    private void applyLeaderboardDelta(User user, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        Long userId = user.getId();
+        String name = user.getUserInfo() != null ? user.getUserInfo().getName() : user.getLoginId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fisherLeaderboard.addScore(userId, name, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fisherLeaderboard.addScore(userId, name, delta);
+            }
+        });
+    }
+    
     @Override
     public RankingCollection getOrCreateRankingCollection(User user, Fish fish) {
+        // 조회 후 저장 대신 유니크 키 기준 생성을 먼저 수행 (동시 생성 시 유니크 키 위반 방지)
+        rankingCollectionRepository.insertIfAbsent(user.getId(), fish.getId());
         return rankingCollectionRepository.findByUserAndFish(user, fish)
-                .orElseGet(() -> {
-                    RankingCollection newCollection = new RankingCollection();
-                    newCollection.setUser(user);
-                    newCollection.setFish(fish);
-                    newCollection.setHighestScore(0);
-                    newCollection.setHighestLength(0.0);
-                    newCollection.setTotalScore(0);
-                    newCollection.setCatchCount(0);
-                    return rankingCollectionRepository.save(newCollection);
-                });
+                .orElseThrow(() -> new RuntimeException("랭킹 컬렉션을 찾을 수 없습니다."));
     }
     
     @Override
     public void recalculateRankingCollection(User user, Fish fish) {
         RankingCollection rankingCollection = getOrCreateRankingCollection(user, fish);
+        int oldTotalScore = rankingCollection.getTotalScore();
         
         // certified=true인 FishLog들만 조회
         List<FishLog> certifiedLogs = fishLogRepository.findByUserAndFishIdAndCertifiedTrueOrderByCollectAtDesc(user, fish.getId());
@@ -97,9 +125,21 @@ public class RankingCollectionServiceImpl implements RankingCollectionService {
         }
         
         rankingCollectionRepository.save(rankingCollection);
+        seasonalRankingService.rebuild(user, fish, certifiedLogs);
+        applyLeaderboardDelta(user, rankingCollection.getTotalScore() - oldTotalScore);
+        eventPublisher.publishEvent(new RankingChangedEvent(user.getId()));
         log.info("RankingCollection 재계산 완료 - User: {}, Fish: {}, 점수: {}, 길이: {}, 총점: {}, 횟수: {}", 
                 user.getLoginId(), fish.getName(), 
                 rankingCollection.getHighestScore(), rankingCollection.getHighestLength(), 
                 rankingCollection.getTotalScore(), rankingCollection.getCatchCount());
     }
+    
+    @Override
+    public void recalculateRankingCollection(Long userId, Long fishId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
+        Fish fish = fishRepository.findById(fishId)
+                .orElseThrow(() -> new RuntimeException("물고기를 찾을 수 없습니다."));
+        recalculateRankingCollection(user, fish);
+    }
 }
\ No newline at end of file
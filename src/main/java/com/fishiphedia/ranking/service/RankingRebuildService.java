@@ -0,0 +1,14 @@
+package com.fishiphedia.ranking.service;
+
+import com.fishiphedia.ranking.dto.RankingRebuildJobResponse;
+
+public interface RankingRebuildService {
+    
+    // 사용자 id 범위에 대한 전체 재구성 작업 시작 (null이면 전체 사용자)
+    RankingRebuildJobResponse startRebuild(Long fromUserId, Long toUserId);
+    
+    // 실패하거나 중단된 작업의 미완료 파티션만 다시 실행
+    RankingRebuildJobResponse resumeRebuild(Long jobId);
+    
+    RankingRebuildJobResponse getJob(Long jobId);
+}
@@ -0,0 +1,416 @@
+package com.fishiphedia.ranking.service;
+
+import com.fishiphedia.common.util.LevelCalculator;
+import com.fishiphedia.common.util.LevelCurveType;
+import com.fishiphedia.fish.service.CatchOutboxHandler;
+import com.fishiphedia.ranking.dto.RankingRebuildJobResponse;
+import com.fishiphedia.ranking.entity.RankingRebuildJob;
+import com.fishiphedia.ranking.entity.RankingRebuildPartition;
+import com.fishiphedia.ranking.entity.RankingRebuildStatus;
+import com.fishiphedia.ranking.entity.RankingWindow;
+import com.fishiphedia.ranking.repository.RankingRebuildJobRepository;
+import com.fishiphedia.ranking.repository.RankingRebuildPartitionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * fish_log로부터 ranking_collection, seasonal_ranking_collection, fish_collection, user_info 집계를 다시 만드는 배치 작업.
+ * 사용자 id 범위를 파티션으로 나누어 fork-join 풀에서 병렬로 처리하고,
+ * 파티션마다 DB에서 GROUP BY로 집계한 결과를 배치 upsert 한다.
+ * 파티션 완료 여부는 같은 트랜잭션에서 기록하므로 실패한 작업은 남은 파티션부터 재개할 수 있다.
+ *
+ * 실시간 증분 반영(아웃박스 소비자, 일괄 업로드)과의 관계:
+ * 파티션 트랜잭션은 먼저 대상 사용자 범위의 집계 행을 FOR UPDATE로 잠근 뒤 로그를 읽는다.
+ * 이미 반영 중이던 증분은 커밋될 때까지 기다렸다가 읽기 시점에 포함되고, 잠근 뒤 들어온 증분은 재구성 커밋 이후에 더해진다.
+ * 아웃박스 소비자가 아직 반영하지 않은 이벤트의 로그는 집계에서 빼므로, 재구성 이후 소비자가 더해도 두 번 세지 않는다.
+ * 작업 실행은 조건부 UPDATE로 RUNNING을 선점한 한 곳에서만 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RankingRebuildServiceImpl implements RankingRebuildService {
+    
+    private static final String USER_ID_BOUNDS_SQL = "SELECT MIN(id), MAX(id) FROM user";
+    
+    // 실행 중인 작업이 없을 때만 RUNNING 선점 (오래된 RUNNING은 중단된 작업으로 보고 다시 선점 가능)
+    private static final String CLAIM_JOB_SQL =
+            "UPDATE ranking_rebuild_job SET status = 'RUNNING', started_at = ?, finished_at = NULL " +
+            "WHERE id = ? AND (status <> 'RUNNING' OR started_at < ?) AND NOT EXISTS (" +
+            "SELECT 1 FROM (SELECT id FROM ranking_rebuild_job WHERE status = 'RUNNING' AND started_at >= ? AND id <> ?) running)";
+    
+    // 파티션 집계 행 잠금 (읽기 전에 수행해 진행 중인 증분 반영과 순서를 맞춤)
+    private static final String LOCK_RANKING_SQL =
+            "SELECT id FROM ranking_collection WHERE user_id BETWEEN ? AND ? FOR UPDATE";
+    
+    private static final String LOCK_SEASONAL_SQL =
+            "SELECT id FROM seasonal_ranking_collection WHERE user_id BETWEEN ? AND ? FOR UPDATE";
+    
+    private static final String LOCK_COLLECTION_SQL =
+            "SELECT id FROM fish_collection WHERE user_id BETWEEN ? AND ? FOR UPDATE";
+    
+    private static final String LOCK_USER_INFO_SQL =
+            "SELECT user_id FROM user_info WHERE user_id BETWEEN ? AND ? FOR UPDATE";
+    
+    // 랭킹 소비자가 아직 반영하지 않은 검증 이벤트가 없는 로그 (남은 이벤트는 재구성 이후 소비자가 증분으로 더함)
+    private static final String RANKING_APPLIED =
+            "NOT EXISTS (SELECT 1 FROM catch_outbox co WHERE co.fish_log_id = fl.id AND co.event_type = 'CATCH_VERIFIED' " +
+            "AND co.status IN ('PENDING', 'PROCESSING') AND co.completed_handlers & " + CatchOutboxHandler.RANKING.bit() + " = 0)";
+    
+    // 도감 소비자가 아직 반영하지 않은 등록 이벤트가 없는 로그
+    private static final String COLLECTION_APPLIED =
+            "NOT EXISTS (SELECT 1 FROM catch_outbox co WHERE co.fish_log_id = fl.id AND co.event_type = 'CATCH_CREATED' " +
+            "AND co.status IN ('PENDING', 'PROCESSING') AND co.completed_handlers & " + CatchOutboxHandler.COLLECTION.bit() + " = 0)";
+    
+    private static final String CERTIFIED_AGGREGATE_SQL =
+            "SELECT fl.user_id, fl.fish_id, MAX(fl.score), MAX(fl.length), SUM(fl.score), COUNT(*) FROM fish_log fl " +
+            "WHERE fl.certified = TRUE AND fl.user_id BETWEEN ? AND ? AND " + RANKING_APPLIED + " " +
+            "GROUP BY fl.user_id, fl.fish_id";
+    
+    private static final String UPSERT_RANKING_SQL =
+            "INSERT INTO ranking_collection (user_id, fish_id, highest_score, highest_length, total_score, catch_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE highest_score = VALUES(highest_score), highest_length = VALUES(highest_length), " +
+            "total_score = VALUES(total_score), catch_count = VALUES(catch_count)";
+    
+    // 검증된 로그가 하나도 없는 랭킹 레코드는 0으로 초기화 (recalculateRankingCollection과 동일)
+    private static final String RESET_RANKING_SQL =
+            "UPDATE ranking_collection rc SET highest_score = 0, highest_length = 0, total_score = 0, catch_count = 0 " +
+            "WHERE rc.user_id BETWEEN ? AND ? AND NOT EXISTS (" +
+            "SELECT 1 FROM fish_log fl WHERE fl.user_id = rc.user_id AND fl.fish_id = rc.fish_id AND fl.certified = TRUE " +
+            "AND " + RANKING_APPLIED + ")";
+    
+    private static final String DELETE_SEASONAL_SQL =
+            "DELETE FROM seasonal_ranking_collection WHERE user_id BETWEEN ? AND ?";
+    
+    private static final String CERTIFIED_LOGS_SINCE_SQL =
+            "SELECT fl.user_id, fl.fish_id, fl.collect_at, fl.score, fl.length FROM fish_log fl " +
+            "WHERE fl.certified = TRUE AND fl.user_id BETWEEN ? AND ? AND fl.collect_at >= ? AND " + RANKING_APPLIED;
+    
+    private static final String INSERT_SEASONAL_SQL =
+            "INSERT INTO seasonal_ranking_collection (window_type, window_start, user_id, fish_id, " +
+            "highest_score, highest_length, total_score, catch_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String ALL_LOG_AGGREGATE_SQL =
+            "SELECT fl.user_id, fl.fish_id, MAX(fl.score), MAX(fl.length), SUM(fl.score), MIN(fl.collect_at), COUNT(*) FROM fish_log fl " +
+            "WHERE fl.user_id BETWEEN ? AND ? AND " + COLLECTION_APPLIED + " GROUP BY fl.user_id, fl.fish_id";
+    
+    private static final String EXISTING_COLLECTION_SQL =
+            "SELECT id, user_id, fish_id FROM fish_collection WHERE user_id BETWEEN ? AND ?";
+    
+    private static final String UPDATE_COLLECTION_SQL =
+            "UPDATE fish_collection SET is_collect = TRUE, highest_score = ?, highest_length = ?, total_score = ?, " +
+            "level = ?, current_level_progress = ? WHERE id = ?";
+    
+    private static final String INSERT_COLLECTION_SQL =
+            "INSERT INTO fish_collection (user_id, fish_id, is_collect, collect_at, highest_score, highest_length, " +
+            "total_score, level, current_level_progress) VALUES (?, ?, TRUE, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String RESET_COLLECTION_SQL =
+            "UPDATE fish_collection fc SET highest_score = 0, highest_length = 0, total_score = 0, level = 1, current_level_progress = 0 " +
+            "WHERE fc.user_id BETWEEN ? AND ? AND NOT EXISTS (" +
+            "SELECT 1 FROM fish_log fl WHERE fl.user_id = fc.user_id AND fl.fish_id = fc.fish_id AND " + COLLECTION_APPLIED + ")";
+    
+    private static final String UPDATE_USER_INFO_SQL =
+            "UPDATE user_info SET total_score = ?, level = ?, current_level_progress = ? WHERE user_id = ?";
+    
+    private static final String RESET_USER_INFO_SQL =
+            "UPDATE user_info ui SET total_score = 0, level = 1, current_level_progress = 0 " +
+            "WHERE ui.user_id BETWEEN ? AND ? AND NOT EXISTS (" +
+            "SELECT 1 FROM fish_log fl WHERE fl.user_id = ui.user_id AND " + COLLECTION_APPLIED + ")";
+    
+    private static final String COMPLETE_PARTITION_SQL =
+            "UPDATE ranking_rebuild_partition SET status = 'COMPLETED', processed_logs = ?, attempts = attempts + 1, " +
+            "error_message = NULL, finished_at = ? WHERE id = ?";
+    
+    private static final String FAIL_PARTITION_SQL =
+            "UPDATE ranking_rebuild_partition SET status = 'FAILED', attempts = attempts + 1, error_message = ?, finished_at = ? WHERE id = ?";
+    
+    private final RankingRebuildJobRepository rankingRebuildJobRepository;
+    private final RankingRebuildPartitionRepository rankingRebuildPartitionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FisherLeaderboard fisherLeaderboard;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${app.ranking.rebuild.partition-size:500}")
+    private int partitionSize;
+    
+    @Value("${app.ranking.rebuild.parallelism:4}")
+    private int parallelism;
+    
+    // 이보다 오래 RUNNING인 작업은 실행하던 인스턴스가 중단된 것으로 보고 재개를 허용
+    @Value("${app.ranking.rebuild.stale-minutes:120}")
+    private long staleMinutes;
+    
+    private ForkJoinPool rebuildPool;
+    
+    @PostConstruct
+    void initPool() {
+        rebuildPool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+    
+    @PreDestroy
+    void shutdownPool() {
+        rebuildPool.shutdown();
+    }
+    
+    @Override
+    public RankingRebuildJobResponse startRebuild(Long fromUserId, Long toUserId) {
+        long[] bounds = jdbcTemplate.queryForObject(USER_ID_BOUNDS_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        long from = fromUserId != null ? fromUserId : bounds[0];
+        long to = toUserId != null ? toUserId : bounds[1];
+        if (from > to) {
+            throw new IllegalArgumentException("사용자 id 범위가 올바르지 않습니다.");
+        }
+        
+        Long jobId = transactionTemplate.execute(status -> {
+            RankingRebuildJob job = new RankingRebuildJob();
+            job.setFromUserId(from);
+            job.setToUserId(to);
+            job.setPartitionSize(partitionSize);
+            
+            List<RankingRebuildPartition> partitions = new ArrayList<>();
+            for (long start = from; start <= to; start += partitionSize) {
+                RankingRebuildPartition partition = new RankingRebuildPartition();
+                partition.setJob(job);
+                partition.setStartUserId(start);
+                partition.setEndUserId(Math.min(to, start + partitionSize - 1));
+                partitions.add(partition);
+            }
+            job.setTotalPartitions(partitions.size());
+            rankingRebuildJobRepository.save(job);
+            rankingRebuildPartitionRepository.saveAll(partitions);
+            // 선점에 실패하면 새 작업도 함께 롤백
+            claim(job.getId());
+            return job.getId();
+        });
+        
+        launch(jobId);
+        return getJob(jobId);
+    }
+    
+    @Override
+    public RankingRebuildJobResponse resumeRebuild(Long jobId) {
+        RankingRebuildJob job = rankingRebuildJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("재구성 작업을 찾을 수 없습니다."));
+        if (job.getStatus() == RankingRebuildStatus.COMPLETED) {
+            throw new IllegalStateException("이미 완료된 작업입니다.");
+        }
+        transactionTemplate.executeWithoutResult(status -> claim(jobId));
+        launch(jobId);
+        return getJob(jobId);
+    }
+    
+    @Override
+    public RankingRebuildJobResponse getJob(Long jobId) {
+        RankingRebuildJob job = rankingRebuildJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("재구성 작업을 찾을 수 없습니다."));
+        long completed = rankingRebuildPartitionRepository.countByJobIdAndStatus(jobId, RankingRebuildStatus.COMPLETED);
+        long failed = rankingRebuildPartitionRepository.countByJobIdAndStatus(jobId, RankingRebuildStatus.FAILED);
+        List<String> errors = rankingRebuildPartitionRepository.findErrorMessages(jobId);
+        return RankingRebuildJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .fromUserId(job.getFromUserId())
+                .toUserId(job.getToUserId())
+                .totalPartitions(job.getTotalPartitions())
+                .completedPartitions(completed)
+                .failedPartitions(failed)
+                .processedLogs(rankingRebuildPartitionRepository.sumProcessedLogs(jobId))
+                .progress(job.getTotalPartitions() > 0 ? completed * 100.0 / job.getTotalPartitions() : 100.0)
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .lastError(errors.isEmpty() ? null : errors.get(0))
+                .build();
+    }
+    
+    // 조건부 UPDATE로 RUNNING 선점, 다른 작업이 실행 중이거나 이 작업이 이미 실행 중이면 실패
+    private void claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusMinutes(staleMinutes);
+        int claimed = jdbcTemplate.update(CLAIM_JOB_SQL, now, jobId, staleBefore, staleBefore, jobId);
+        if (claimed == 0) {
+            throw new IllegalStateException("이미 실행 중인 랭킹 재구성 작업이 있습니다.");
+        }
+    }
+    
+    // 선점한 작업의 남은 파티션 실행
+    private void launch(Long jobId) {
+        List<RankingRebuildPartition> pending = transactionTemplate.execute(status ->
+                rankingRebuildPartitionRepository.findByJobIdAndStatusNotOrderByStartUserIdAsc(jobId, RankingRebuildStatus.COMPLETED));
+        log.info("랭킹 재구성 작업 시작: jobId={}, 대상 파티션={}개", jobId, pending.size());
+        
+        List<CompletableFuture<Void>> futures = new ArrayList<>(pending.size());
+        for (RankingRebuildPartition partition : pending) {
+            Long partitionId = partition.getId();
+            long start = partition.getStartUserId();
+            long end = partition.getEndUserId();
+            futures.add(CompletableFuture.runAsync(() -> processPartition(partitionId, start, end), rebuildPool));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((result, ex) -> finishJob(jobId));
+    }
+    
+    private void processPartition(Long partitionId, long startUserId, long endUserId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                lockPartition(startUserId, endUserId);
+                long processedLogs = rebuildRankingCollection(startUserId, endUserId);
+                rebuildSeasonalRanking(startUserId, endUserId);
+                rebuildFishCollectionAndUserInfo(startUserId, endUserId);
+                jdbcTemplate.update(COMPLETE_PARTITION_SQL, processedLogs, LocalDateTime.now(), partitionId);
+            });
+        } catch (Exception e) {
+            log.error("랭킹 재구성 파티션 실패: partitionId={}, 사용자 {}~{}, 오류={}", partitionId, startUserId, endUserId, e.getMessage());
+            String message = e.getMessage() != null && e.getMessage().length() > 500 ? e.getMessage().substring(0, 500) : e.getMessage();
+            jdbcTemplate.update(FAIL_PARTITION_SQL, message, LocalDateTime.now(), partitionId);
+        }
+    }
+    
+    // 첫 일반 조회(읽기 시점 생성) 전에 잠가야 잠금 대기 중 커밋된 증분까지 읽음
+    private void lockPartition(long startUserId, long endUserId) {
+        jdbcTemplate.queryForList(LOCK_RANKING_SQL, startUserId, endUserId);
+        jdbcTemplate.queryForList(LOCK_SEASONAL_SQL, startUserId, endUserId);
+        jdbcTemplate.queryForList(LOCK_COLLECTION_SQL, startUserId, endUserId);
+        jdbcTemplate.queryForList(LOCK_USER_INFO_SQL, startUserId, endUserId);
+    }
+    
+    // 검증된 로그 기준 ranking_collection upsert, 처리한 로그 수 반환
+    private long rebuildRankingCollection(long startUserId, long endUserId) {
+        List<Object[]> rows = new ArrayList<>();
+        long[] processedLogs = {0};
+        jdbcTemplate.query(CERTIFIED_AGGREGATE_SQL, rs -> {
+            long count = rs.getLong(6);
+            processedLogs[0] += count;
+            rows.add(new Object[]{rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getDouble(4), rs.getInt(5), (int) count});
+        }, startUserId, endUserId);
+        
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_RANKING_SQL, rows);
+        }
+        jdbcTemplate.update(RESET_RANKING_SQL, startUserId, endUserId);
+        return processedLogs[0];
+    }
+    
+    // 보관 기간 안의 검증된 로그로 기간별 버킷을 다시 생성 (SeasonalRankingServiceImpl.rebuild와 같은 규칙)
+    private void rebuildSeasonalRanking(long startUserId, long endUserId) {
+        LocalDate today = LocalDate.now();
+        LocalDate since = today;
+        for (RankingWindow window : RankingWindow.values()) {
+            LocalDate cutoff = window.retentionCutoff(today);
+            if (cutoff.isBefore(since)) {
+                since = cutoff;
+            }
+        }
+        
+        Map<String, Object[]> buckets = new HashMap<>();
+        jdbcTemplate.query(CERTIFIED_LOGS_SINCE_SQL, rs -> {
+            long userId = rs.getLong(1);
+            long fishId = rs.getLong(2);
+            LocalDate collectAt = rs.getDate(3).toLocalDate();
+            int score = rs.getInt(4);
+            double length = rs.getDouble(5);
+            for (RankingWindow window : RankingWindow.values()) {
+                LocalDate windowStart = window.startOf(collectAt);
+                if (!window.isRetained(windowStart, today)) {
+                    continue;
+                }
+                Object[] bucket = buckets.computeIfAbsent(window + ":" + windowStart + ":" + userId + ":" + fishId,
+                        key -> new Object[]{window.name(), Date.valueOf(windowStart), userId, fishId, 0, 0.0, 0, 0});
+                bucket[4] = Math.max((Integer) bucket[4], score);
+                bucket[5] = Math.max((Double) bucket[5], length);
+                bucket[6] = (Integer) bucket[6] + score;
+                bucket[7] = (Integer) bucket[7] + 1;
+            }
+        }, startUserId, endUserId, Date.valueOf(since));
+        
+        jdbcTemplate.update(DELETE_SEASONAL_SQL, startUserId, endUserId);
+        if (!buckets.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SEASONAL_SQL, new ArrayList<>(buckets.values()));
+        }
+    }
+    
+    // 전체 로그 기준 fish_collection 합계/레벨과 user_info 합계/레벨 재계산
+    private void rebuildFishCollectionAndUserInfo(long startUserId, long endUserId) {
+        Map<String, Long> existingIds = new HashMap<>();
+        jdbcTemplate.query(EXISTING_COLLECTION_SQL,
+                rs -> { existingIds.put(rs.getLong(2) + ":" + rs.getLong(3), rs.getLong(1)); },
+                startUserId, endUserId);
+        
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        Map<Long, Integer> userTotals = new HashMap<>();
+        jdbcTemplate.query(ALL_LOG_AGGREGATE_SQL, rs -> {
+            long userId = rs.getLong(1);
+            long fishId = rs.getLong(2);
+            int highestScore = rs.getInt(3);
+            double highestLength = rs.getDouble(4);
+            int totalScore = rs.getInt(5);
+            Date firstCollectAt = rs.getDate(6);
+            LevelCalculator.LevelInfo levelInfo = LevelCalculator.calculateLevel(LevelCurveType.FISH_COLLECTION, totalScore);
+            
+            Long collectionId = existingIds.get(userId + ":" + fishId);
+            if (collectionId != null) {
+                updates.add(new Object[]{highestScore, highestLength, totalScore, levelInfo.level, levelInfo.progress, collectionId});
+            } else {
+                LocalDate collectAt = firstCollectAt != null ? firstCollectAt.toLocalDate() : LocalDate.now();
+                inserts.add(new Object[]{userId, fishId, collectAt, highestScore, highestLength, totalScore, levelInfo.level, levelInfo.progress});
+            }
+            userTotals.merge(userId, totalScore, Integer::sum);
+        }, startUserId, endUserId);
+        
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_COLLECTION_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_COLLECTION_SQL, inserts);
+        }
+        jdbcTemplate.update(RESET_COLLECTION_SQL, startUserId, endUserId);
+        
+        List<Object[]> userUpdates = new ArrayList<>(userTotals.size());
+        userTotals.forEach((userId, totalScore) -> {
+            LevelCalculator.LevelInfo levelInfo = LevelCalculator.calculateLevel(LevelCurveType.FISHER, totalScore);
+            userUpdates.add(new Object[]{totalScore, levelInfo.level, levelInfo.progress, userId});
+        });
+        if (!userUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_USER_INFO_SQL, userUpdates);
+        }
+        jdbcTemplate.update(RESET_USER_INFO_SQL, startUserId, endUserId);
+    }
+    
+    private void finishJob(Long jobId) {
+        try {
+            long failed = rankingRebuildPartitionRepository.countByJobIdAndStatus(jobId, RankingRebuildStatus.FAILED);
+            transactionTemplate.executeWithoutResult(status -> {
+                RankingRebuildJob job = rankingRebuildJobRepository.findById(jobId).orElseThrow();
+                job.setStatus(failed > 0 ? RankingRebuildStatus.FAILED : RankingRebuildStatus.COMPLETED);
+                job.setFinishedAt(LocalDateTime.now());
+            });
+            
+            // 메모리 리더보드와 랭킹 스냅샷을 새 집계 기준으로 갱신
+            fisherLeaderboard.reload();
+            eventPublisher.publishEvent(new RankingChangedEvent(null));
+            log.info("랭킹 재구성 작업 종료: jobId={}, 실패 파티션={}개", jobId, failed);
+        } catch (Exception e) {
+            log.error("랭킹 재구성 작업 마무리 실패: jobId={}, 오류={}", jobId, e.getMessage());
+        }
+    }
+}
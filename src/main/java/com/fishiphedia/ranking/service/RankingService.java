@@ -2,11 +2,31 @@ package com.fishiphedia.ranking.service;
 
 import com.fishiphedia.ranking.dto.FisherRankingResponse;
 import com.fishiphedia.ranking.dto.FishCollectionRankingResponse;
+import com.fishiphedia.ranking.dto.RankingPageResponse;
+import com.fishiphedia.ranking.entity.RankingWindow;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface RankingService {
     List<FisherRankingResponse> getFisherRanking();
+    List<FisherRankingResponse> getMyFisherRanking(int range);
     List<FishCollectionRankingResponse> getFishCollectionRanking();
     List<FishCollectionRankingResponse> getFishRankingAllFish();
     List<FishCollectionRankingResponse> getFishRankingByFish(Long fishId);
-} 
\ No newline at end of file
+
+    // 페이지 단위 랭킹
+    RankingPageResponse<FisherRankingResponse> getFisherRankingPage(int page, int size);
+    RankingPageResponse<FishCollectionRankingResponse> getFishCollectionRankingPage(int page, int size);
+    RankingPageResponse<FishCollectionRankingResponse> getFishRankingAllFishPage(int page, int size);
+    RankingPageResponse<FishCollectionRankingResponse> getFishRankingByFishPage(Long fishId, int page, int size);
+
+    // 특정 물고기 랭킹에서 내 순위와 앞뒤 range명
+    List<FishCollectionRankingResponse> getMyFishRanking(Long fishId, int range);
+
+    // 기간별(주간/월간/시즌) 랭킹 페이지, date가 속한 기간 기준 (null이면 현재 기간)
+    RankingPageResponse<FisherRankingResponse> getWindowFisherRankingPage(RankingWindow window, LocalDate date, int page, int size);
+    RankingPageResponse<FishCollectionRankingResponse> getWindowFishCollectionRankingPage(RankingWindow window, LocalDate date, int page, int size);
+    RankingPageResponse<FishCollectionRankingResponse> getWindowFishRankingAllFishPage(RankingWindow window, LocalDate date, int page, int size);
+    RankingPageResponse<FishCollectionRankingResponse> getWindowFishRankingByFishPage(RankingWindow window, LocalDate date, Long fishId, int page, int size);
+} 
@@ -2,104 +2,190 @@ package com.fishiphedia.ranking.service;
 
 import com.fishiphedia.ranking.dto.FisherRankingResponse;
 import com.fishiphedia.ranking.dto.FishCollectionRankingResponse;
-import com.fishiphedia.user.entity.UserInfo;
-import com.fishiphedia.user.repository.UserInfoRepository;
-import com.fishiphedia.fish.entity.FishCollection;
-import com.fishiphedia.fish.repository.FishCollectionRepository;
-import com.fishiphedia.fish.entity.Fish;
-import com.fishiphedia.fish.repository.FishRepository;
-import com.fishiphedia.fish.repository.FishLogRepository;
+import com.fishiphedia.ranking.dto.RankingPageResponse;
 import com.fishiphedia.user.entity.User;
-import com.fishiphedia.ranking.entity.RankingCollection;
+import com.fishiphedia.user.repository.UserRepository;
+import com.fishiphedia.ranking.entity.RankingWindow;
 import com.fishiphedia.ranking.repository.RankingCollectionRepository;
+import com.fishiphedia.ranking.repository.SeasonalRankingCollectionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RankingServiceImpl implements RankingService {
 
-    private final UserInfoRepository userInfoRepository;
-    private final FishCollectionRepository fishCollectionRepository;
-    private final FishRepository fishRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final RankingCollectionRepository rankingCollectionRepository;
+    private final UserRepository userRepository;
+    private final FisherLeaderboard fisherLeaderboard;
+    private final SeasonalRankingCollectionRepository seasonalRankingCollectionRepository;
+
+    // 전체 목록 API가 내려주는 최대 건수 (그 이후는 페이지 API 사용)
+    @Value("${app.ranking.list-limit:1000}")
+    private int listLimit;
 
-    // 낚시꾼 전체 랭킹 (RankingCollection 기반, certified=true만)
+    // 낚시꾼 전체 랭킹 (RankingCollection 기반, certified=true만, 메모리 리더보드에서 조회)
     @Override
     public List<FisherRankingResponse> getFisherRanking() {
-        List<Object[]> results = rankingCollectionRepository.findUserTotalScoreRanking();
-        return results.stream()
-                .map(result -> {
-                    User user = (User) result[0];
-                    Long totalScore = (Long) result[1];
-                    
-                    FisherRankingResponse dto = new FisherRankingResponse();
-                    dto.setUserId(user.getId());
-                    dto.setName(user.getUserInfo() != null ? user.getUserInfo().getName() : user.getLoginId());
-                    dto.setTotalScore(totalScore != null ? totalScore.intValue() : 0);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return fisherLeaderboard.getAll();
+    }
+
+    // 내 순위와 앞뒤 range명 (메모리 리더보드)
+    @Override
+    public List<FisherRankingResponse> getMyFisherRanking(int range) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User user = userRepository.findByLoginId(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
+        return fisherLeaderboard.getAround(user.getId(), Math.min(Math.max(0, range), MAX_PAGE_SIZE));
     }
 
     // RankingCollection 전체 랭킹 (totalScore, certified=true만)
     @Override
     public List<FishCollectionRankingResponse> getFishCollectionRanking() {
-        return rankingCollectionRepository.findAllByOrderByTotalScoreDesc().stream()
-                .map(rc -> {
-                    FishCollectionRankingResponse dto = new FishCollectionRankingResponse();
-                    dto.setUserId(rc.getUser().getId());
-                    dto.setName(rc.getUser().getUserInfo() != null ? rc.getUser().getUserInfo().getName() : rc.getUser().getLoginId());
-                    dto.setFishId(rc.getFish().getId());
-                    dto.setFishName(rc.getFish().getName());
-                    dto.setTotalScore(rc.getTotalScore());
-                    dto.setHighestScore(rc.getHighestScore());
-                    dto.setHighestLength(rc.getHighestLength());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return withRanks(new ArrayList<>(rankingCollectionRepository.findRankingResponsesOrderByTotalScore(topList()).getContent()), 1);
     }
 
     // 물고기별 전체 랭킹 (highestScore, 전체 물고기, certified=true만)
     @Override
     public List<FishCollectionRankingResponse> getFishRankingAllFish() {
-        return rankingCollectionRepository.findAllByOrderByHighestScoreDesc().stream()
-                .map(rc -> {
-                    FishCollectionRankingResponse dto = new FishCollectionRankingResponse();
-                    dto.setUserId(rc.getUser().getId());
-                    dto.setName(rc.getUser().getUserInfo() != null ? rc.getUser().getUserInfo().getName() : rc.getUser().getLoginId());
-                    dto.setFishId(rc.getFish().getId());
-                    dto.setFishName(rc.getFish().getName());
-                    dto.setTotalScore(rc.getTotalScore());
-                    dto.setHighestScore(rc.getHighestScore());
-                    dto.setHighestLength(rc.getHighestLength());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return withRanks(new ArrayList<>(rankingCollectionRepository.findRankingResponsesOrderByHighestScore(topList()).getContent()), 1);
     }
 
     // 특정 물고기별 랭킹 (highestScore, certified=true만)
     @Override
     public List<FishCollectionRankingResponse> getFishRankingByFish(Long fishId) {
-        return rankingCollectionRepository.findByFishIdOrderByHighestScoreDesc(fishId).stream()
-                .map(rc -> {
-                    FishCollectionRankingResponse dto = new FishCollectionRankingResponse();
-                    dto.setUserId(rc.getUser().getId());
-                    dto.setName(rc.getUser().getUserInfo() != null ? rc.getUser().getUserInfo().getName() : rc.getUser().getLoginId());
-                    dto.setFishId(rc.getFish().getId());
-                    dto.setFishName(rc.getFish().getName());
-                    dto.setTotalScore(rc.getTotalScore());
-                    dto.setHighestScore(rc.getHighestScore());
-                    dto.setHighestLength(rc.getHighestLength());
-                    return dto;
-                })
-                .collect(Collectors.toList());
-    }
-} 
\ No newline at end of file
+        return withRanks(new ArrayList<>(rankingCollectionRepository.findRankingResponsesByFishIdOrderByHighestScore(fishId, topList()).getContent()), 1);
+    }
+
+    // 낚시꾼 랭킹 페이지 (메모리 리더보드)
+    @Override
+    public RankingPageResponse<FisherRankingResponse> getFisherRankingPage(int page, int size) {
+        Pageable pageable = toPageable(page, size);
+        List<FisherRankingResponse> rankings = fisherLeaderboard.getRange((int) pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rankings.size() > pageable.getPageSize();
+        if (hasNext) {
+            rankings = rankings.subList(0, pageable.getPageSize());
+        }
+        return new RankingPageResponse<>(pageable.getPageNumber(), pageable.getPageSize(), hasNext, rankings);
+    }
+
+    @Override
+    public RankingPageResponse<FishCollectionRankingResponse> getFishCollectionRankingPage(int page, int size) {
+        Pageable pageable = toPageable(page, size);
+        return toPageResponse(rankingCollectionRepository.findRankingResponsesOrderByTotalScore(pageable));
+    }
+
+    @Override
+    public RankingPageResponse<FishCollectionRankingResponse> getFishRankingAllFishPage(int page, int size) {
+        Pageable pageable = toPageable(page, size);
+        return toPageResponse(rankingCollectionRepository.findRankingResponsesOrderByHighestScore(pageable));
+    }
+
+    @Override
+    public RankingPageResponse<FishCollectionRankingResponse> getFishRankingByFishPage(Long fishId, int page, int size) {
+        Pageable pageable = toPageable(page, size);
+        return toPageResponse(rankingCollectionRepository.findRankingResponsesByFishIdOrderByHighestScore(fishId, pageable));
+    }
+
+    // 특정 물고기 랭킹에서 내 순위와 앞뒤 range명 (highestScore)
+    @Override
+    public List<FishCollectionRankingResponse> getMyFishRanking(Long fishId, int range) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User user = userRepository.findByLoginId(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
+        RankingCollectionRepository.RankingKey mine = rankingCollectionRepository.findRankingKey(user.getId(), fishId).orElse(null);
+        if (mine == null) {
+            return List.of();
+        }
+
+        int limit = Math.min(Math.max(0, range), MAX_PAGE_SIZE);
+        int myRank = (int) rankingCollectionRepository.countAheadInFish(fishId, mine.getHighestScore(), mine.getId()) + 1;
+
+        List<FishCollectionRankingResponse> ahead = limit > 0
+                ? new ArrayList<>(rankingCollectionRepository.findAheadInFish(fishId, mine.getHighestScore(), mine.getId(), PageRequest.of(0, limit)))
+                : new ArrayList<>();
+        List<FishCollectionRankingResponse> fromMe = rankingCollectionRepository.findFromMeInFish(
+                fishId, mine.getHighestScore(), mine.getId(), PageRequest.of(0, limit + 1));
+        Collections.reverse(ahead);
+
+        List<FishCollectionRankingResponse> window = new ArrayList<>(ahead.size() + fromMe.size());
+        window.addAll(ahead);
+        window.addAll(fromMe);
+        return withRanks(window, myRank - ahead.size());
+    }
+
+    // 기간별 낚시꾼 랭킹 페이지 (totalScore 합계)
+    @Override
+    public RankingPageResponse<FisherRankingResponse> getWindowFisherRankingPage(RankingWindow window, LocalDate date, int page, int size) {
+        Pageable pageable = toPageable(page, size);
+        Slice<FisherRankingResponse> slice = seasonalRankingCollectionRepository.findFisherRanking(
+                window, windowStart(window, date), pageable);
+        List<FisherRankingResponse> rankings = new ArrayList<>(slice.getContent());
+        int firstRank = (int) pageable.getOffset() + 1;
+        for (int i = 0; i < rankings.size(); i++) {
+            rankings.get(i).setRank(firstRank + i);
+        }
+        return new RankingPageResponse<>(slice.getNumber(), slice.getSize(), slice.hasNext(), rankings);
+    }
+
+    // 기간별 FishCollection 랭킹 페이지 (totalScore)
+    @Override
+    public RankingPageResponse<FishCollectionRankingResponse> getWindowFishCollectionRankingPage(RankingWindow window, LocalDate date, int page, int size) {
+        return toPageResponse(seasonalRankingCollectionRepository.findRankingResponsesOrderByTotalScore(
+                window, windowStart(window, date), toPageable(page, size)));
+    }
+
+    // 기간별 물고기 랭킹 페이지 (highestScore)
+    @Override
+    public RankingPageResponse<FishCollectionRankingResponse> getWindowFishRankingAllFishPage(RankingWindow window, LocalDate date, int page, int size) {
+        return toPageResponse(seasonalRankingCollectionRepository.findRankingResponsesOrderByHighestScore(
+                window, windowStart(window, date), toPageable(page, size)));
+    }
+
+    // 기간별 특정 물고기 랭킹 페이지 (highestScore)
+    @Override
+    public RankingPageResponse<FishCollectionRankingResponse> getWindowFishRankingByFishPage(RankingWindow window, LocalDate date, Long fishId, int page, int size) {
+        return toPageResponse(seasonalRankingCollectionRepository.findRankingResponsesByFishIdOrderByHighestScore(
+                window, windowStart(window, date), fishId, toPageable(page, size)));
+    }
+
+    private LocalDate windowStart(RankingWindow window, LocalDate date) {
+        return window.startOf(date != null ? date : LocalDate.now());
+    }
+
+    private Pageable topList() {
+        return PageRequest.of(0, listLimit);
+    }
+
+    private Pageable toPageable(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.min(Math.max(1, size), MAX_PAGE_SIZE));
+    }
+
+    private RankingPageResponse<FishCollectionRankingResponse> toPageResponse(Slice<FishCollectionRankingResponse> slice) {
+        int firstRank = (int) slice.getPageable().getOffset() + 1;
+        List<FishCollectionRankingResponse> rankings = withRanks(new ArrayList<>(slice.getContent()), firstRank);
+        return new RankingPageResponse<>(slice.getNumber(), slice.getSize(), slice.hasNext(), rankings);
+    }
+
+    private List<FishCollectionRankingResponse> withRanks(List<FishCollectionRankingResponse> rankings, int firstRank) {
+        for (int i = 0; i < rankings.size(); i++) {
+            rankings.get(i).setRank(firstRank + i);
+        }
+        return rankings;
+    }
+} 
@@ -0,0 +1,149 @@
+package com.fishiphedia.ranking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 랭킹 응답을 미리 직렬화한 불변 스냅샷으로 보관한다.
+ * 조회 시에는 DB 조회와 JSON 직렬화 없이 바이트를 그대로 내려주고,
+ * RankingChangedEvent가 발생하면 커밋 이후 비동기로 최근에 조회된 스냅샷을 다시 만든다.
+ * ETag는 본문 해시로 만들기 때문에 재시작 후나 다른 인스턴스에서도 같은 ETag는 같은 본문을 뜻한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankingSnapshotCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Registration> loaders = new ConcurrentHashMap<>();
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // 이 시간 동안 조회되지 않은 키는 재생성 대상에서 빼고 스냅샷도 버린다
+    @Value("${app.ranking.snapshot.idle-minutes:30}")
+    private long idleMinutes;
+
+    /**
+     * 키에 해당하는 스냅샷 조회 (없으면 loader로 만들어 등록)
+     */
+    public Snapshot get(String key, Supplier<?> loader) {
+        Registration registration = loaders.computeIfAbsent(key, k -> new Registration(loader));
+        registration.lastAccessAt = System.currentTimeMillis();
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return snapshots.computeIfAbsent(key, k -> build(k, loader));
+    }
+
+    /**
+     * 랭킹 변경 시 등록된 모든 스냅샷을 재생성.
+     * 연속된 변경은 한 번의 재생성으로 합쳐진다.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRankingChanged(RankingChangedEvent event) {
+        dirty.set(true);
+        while (dirty.get() && rebuilding.compareAndSet(false, true)) {
+            try {
+                while (dirty.getAndSet(false)) {
+                    rebuildAll();
+                }
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+    }
+
+    public void rebuildAll() {
+        long newVersion = version.incrementAndGet();
+        long idleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(idleMinutes);
+        for (Map.Entry<String, Registration> entry : loaders.entrySet()) {
+            if (entry.getValue().lastAccessAt < idleBefore) {
+                loaders.remove(entry.getKey(), entry.getValue());
+                snapshots.remove(entry.getKey());
+                continue;
+            }
+            try {
+                snapshots.put(entry.getKey(), build(entry.getKey(), entry.getValue().loader));
+            } catch (Exception e) {
+                // 재생성 실패 시 다음 조회에서 다시 만들도록 제거
+                snapshots.remove(entry.getKey());
+                log.error("랭킹 스냅샷 재생성 실패: key={}, 오류={}", entry.getKey(), e.getMessage());
+            }
+        }
+        log.debug("랭킹 스냅샷 재생성 완료: version={}, count={}", newVersion, snapshots.size());
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    private Snapshot build(String key, Supplier<?> loader) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(loader.get());
+            String etag = "\"" + key.replace('/', '-') + "-" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new Snapshot(etag, body);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("랭킹 스냅샷 직렬화 실패: " + key, e);
+        }
+    }
+
+    private static final class Registration {
+        private final Supplier<?> loader;
+        private volatile long lastAccessAt;
+
+        private Registration(Supplier<?> loader) {
+            this.loader = loader;
+        }
+    }
+
+    public static final class Snapshot {
+        private final String etag;
+        private final byte[] body;
+
+        private Snapshot(String etag, byte[] body) {
+            this.etag = etag;
+            this.body = body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
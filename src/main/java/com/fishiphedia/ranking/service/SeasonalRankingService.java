@@ -0,0 +1,19 @@
+package com.fishiphedia.ranking.service;
+
+import com.fishiphedia.fish.entity.Fish;
+import com.fishiphedia.fish.entity.FishLog;
+import com.fishiphedia.user.entity.User;
+
+import java.util.List;
+
+public interface SeasonalRankingService {
+    
+    // 검증된 낚시 일지 1건을 해당 기간 버킷들에 증분 반영
+    void applyCatch(FishLog fishLog);
+    
+    // 사용자-물고기 조합의 기간 버킷을 검증된 로그로부터 다시 구성
+    void rebuild(User user, Fish fish, List<FishLog> certifiedLogs);
+    
+    // 보관 기간이 지난 버킷 삭제
+    int expireOldWindows();
+}
@@ -0,0 +1,110 @@
+package com.fishiphedia.ranking.service;
+
+import com.fishiphedia.fish.entity.Fish;
+import com.fishiphedia.fish.entity.FishLog;
+import com.fishiphedia.ranking.entity.RankingWindow;
+import com.fishiphedia.ranking.entity.SeasonalRankingCollection;
+import com.fishiphedia.ranking.repository.SeasonalRankingCollectionRepository;
+import com.fishiphedia.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class SeasonalRankingServiceImpl implements SeasonalRankingService {
+    
+    private final SeasonalRankingCollectionRepository seasonalRankingCollectionRepository;
+    
+    @Override
+    public void applyCatch(FishLog fishLog) {
+        LocalDate today = LocalDate.now();
+        int score = fishLog.getScore();
+        double length = fishLog.getLength() != null ? fishLog.getLength() : 0.0;
+        
+        for (RankingWindow window : RankingWindow.values()) {
+            LocalDate windowStart = window.startOf(fishLog.getCollectAt());
+            // 이미 만료된 기간의 조과는 집계하지 않음
+            if (!window.isRetained(windowStart, today)) {
+                continue;
+            }
+            // 조회 후 저장 대신 버킷마다 upsert 한 번 (첫 조과 동시 생성, 동시 누적에도 유실 없음)
+            seasonalRankingCollectionRepository.upsertCatch(window.name(), windowStart,
+                    fishLog.getUser().getId(), fishLog.getFish().getId(), score, length);
+        }
+    }
+    
+    @Override
+    public void rebuild(User user, Fish fish, List<FishLog> certifiedLogs) {
+        seasonalRankingCollectionRepository.deleteByUserAndFish(user, fish);
+        
+        LocalDate today = LocalDate.now();
+        Map<RankingWindow, Map<LocalDate, SeasonalRankingCollection>> buckets = new HashMap<>();
+        for (FishLog fishLog : certifiedLogs) {
+            int score = fishLog.getScore();
+            double length = fishLog.getLength() != null ? fishLog.getLength() : 0.0;
+            for (RankingWindow window : RankingWindow.values()) {
+                LocalDate windowStart = window.startOf(fishLog.getCollectAt());
+                if (!window.isRetained(windowStart, today)) {
+                    continue;
+                }
+                SeasonalRankingCollection bucket = buckets
+                        .computeIfAbsent(window, w -> new HashMap<>())
+                        .computeIfAbsent(windowStart, start -> newBucket(window, start, user, fish));
+                accumulate(bucket, score, length);
+            }
+        }
+        
+        for (Map<LocalDate, SeasonalRankingCollection> byStart : buckets.values()) {
+            for (SeasonalRankingCollection bucket : byStart.values()) {
+                seasonalRankingCollectionRepository.replaceBucket(bucket.getWindowType().name(), bucket.getWindowStart(),
+                        user.getId(), fish.getId(), bucket.getHighestScore(),
+                        bucket.getHighestLength() != null ? bucket.getHighestLength() : 0.0,
+                        bucket.getTotalScore(), bucket.getCatchCount());
+            }
+        }
+        log.info("기간별 랭킹 재계산 완료 - User: {}, Fish: {}", user.getLoginId(), fish.getName());
+    }
+    
+    /**
+     * 매일 보관 기간이 지난 기간 버킷을 정리
+     */
+    @Override
+    @Scheduled(cron = "${app.ranking.window.expire-cron:0 10 0 * * *}")
+    public int expireOldWindows() {
+        LocalDate today = LocalDate.now();
+        int deleted = 0;
+        for (RankingWindow window : RankingWindow.values()) {
+            deleted += seasonalRankingCollectionRepository.deleteExpired(window, window.retentionCutoff(today));
+        }
+        if (deleted > 0) {
+            log.info("만료된 기간별 랭킹 버킷 삭제: {}건", deleted);
+        }
+        return deleted;
+    }
+    
+    private SeasonalRankingCollection newBucket(RankingWindow window, LocalDate windowStart, User user, Fish fish) {
+        SeasonalRankingCollection bucket = new SeasonalRankingCollection();
+        bucket.setWindowType(window);
+        bucket.setWindowStart(windowStart);
+        bucket.setUser(user);
+        bucket.setFish(fish);
+        return bucket;
+    }
+    
+    private void accumulate(SeasonalRankingCollection bucket, int score, double length) {
+        bucket.setHighestScore(Math.max(bucket.getHighestScore(), score));
+        bucket.setHighestLength(Math.max(bucket.getHighestLength() != null ? bucket.getHighestLength() : 0.0, length));
+        bucket.setTotalScore(bucket.getTotalScore() + score);
+        bucket.setCatchCount(bucket.getCatchCount() + 1);
+    }
+}
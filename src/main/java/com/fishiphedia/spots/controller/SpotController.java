@@ -1,9 +1,11 @@
 package com.fishiphedia.spots.controller;
 
+import com.fishiphedia.spots.dto.NearbySpotResponse;
 import com.fishiphedia.spots.dto.SpotDetailSearchRequest;
 import com.fishiphedia.spots.dto.SpotResponse;
 import com.fishiphedia.spots.dto.SpotSearchRequest;
 import com.fishiphedia.spots.entity.SpotType;
+import com.fishiphedia.spots.entity.WaterFacilityType;
 import com.fishiphedia.spots.service.SpotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -108,6 +110,34 @@ public class SpotController {
         }
     }
 
+    @GetMapping("/radius")
+    public ResponseEntity<List<SpotResponse>> getSpotsWithinRadius(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam Double radiusKm) {
+        try {
+            List<SpotResponse> spots = spotService.getSpotsWithinRadius(lat, lng, radiusKm);
+            return ResponseEntity.ok(spots);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearbySpotResponse>> getNearestSpots(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(defaultValue = "10") Integer k,
+            @RequestParam(required = false) SpotType spotType,
+            @RequestParam(required = false) WaterFacilityType waterFacilityType) {
+        try {
+            List<NearbySpotResponse> spots = spotService.getNearestSpots(lat, lng, k, spotType, waterFacilityType);
+            return ResponseEntity.ok(spots);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/fishing-forecast")
     public ResponseEntity<?> getFishingForecast() {
         try {
@@ -1,6 +1,7 @@
 package com.fishiphedia.spots.controller;
 
 import com.fishiphedia.spots.repository.SpotRepository;
+import com.fishiphedia.spots.service.SpotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +15,7 @@ import java.util.Map;
 public class SpotMigrationController {
 
     private final SpotRepository spotRepository;
+    private final SpotService spotService;
 
     @GetMapping("/count")
     public ResponseEntity<Map<String, Object>> getSpotCount() {
@@ -35,6 +37,7 @@ public class SpotMigrationController {
         try {
             long countBefore = spotRepository.count();
             spotRepository.deleteAll();
+            spotService.rebuildSpatialIndex();
             return ResponseEntity.ok(Map.of(
                 "deletedCount", countBefore,
                 "message", "모든 낚시터 데이터 삭제 완료"
@@ -45,4 +48,20 @@ public class SpotMigrationController {
             ));
         }
     }
-}
\ No newline at end of file
+
+    // 외부 스크립트로 낚시터 데이터를 반입한 뒤 호출
+    @PostMapping("/spatial-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSpatialIndex() {
+        try {
+            int indexed = spotService.rebuildSpatialIndex();
+            return ResponseEntity.ok(Map.of(
+                "indexedCount", indexed,
+                "message", "낚시터 좌표 인덱스 재구성 완료"
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", e.getMessage()
+            ));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.fishiphedia.spots.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbySpotResponse {
+    @JsonUnwrapped
+    private SpotResponse spot; // 낚시터 필드를 그대로 펼쳐서 응답
+    private Double distanceKm; // 기준 좌표로부터의 거리 (km)
+}
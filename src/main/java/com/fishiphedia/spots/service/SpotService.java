@@ -1,9 +1,11 @@
 package com.fishiphedia.spots.service;
 
+import com.fishiphedia.spots.dto.NearbySpotResponse;
 import com.fishiphedia.spots.dto.SpotDetailSearchRequest;
 import com.fishiphedia.spots.dto.SpotResponse;
 import com.fishiphedia.spots.dto.SpotSearchRequest;
 import com.fishiphedia.spots.entity.SpotType;
+import com.fishiphedia.spots.entity.WaterFacilityType;
 
 import java.util.List;
 
@@ -15,4 +17,8 @@ public interface SpotService {
     List<SpotResponse> getSpotsByType(SpotType spotType);
     List<SpotResponse> getSpotsByRegion(String region);
     List<SpotResponse> getSpotsInArea(Double minLat, Double maxLat, Double minLng, Double maxLng);
+    List<SpotResponse> getSpotsWithinRadius(Double latitude, Double longitude, Double radiusKm);
+    List<NearbySpotResponse> getNearestSpots(Double latitude, Double longitude, Integer k,
+                                             SpotType spotType, WaterFacilityType waterFacilityType);
+    int rebuildSpatialIndex();
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.fishiphedia.spots.service;
 
+import com.fishiphedia.common.util.GeoUtil;
+import com.fishiphedia.spots.dto.NearbySpotResponse;
 import com.fishiphedia.spots.dto.SpotDetailSearchRequest;
 import com.fishiphedia.spots.dto.SpotResponse;
 import com.fishiphedia.spots.dto.SpotSearchRequest;
@@ -8,6 +10,10 @@ import com.fishiphedia.spots.entity.SpotType;
 import com.fishiphedia.spots.entity.WaterFacilityType;
 import com.fishiphedia.spots.repository.SpotRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -17,9 +23,17 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SpotServiceImpl implements SpotService {
 
     private final SpotRepository spotRepository;
+    private final SpotSpatialIndex spotSpatialIndex;
+
+    @Value("${app.spots.max-radius-km:100}")
+    private double maxRadiusKm;
+
+    @Value("${app.spots.max-nearest:50}")
+    private int maxNearest;
 
     @Override
     public List<SpotResponse> getAllSpots() {
@@ -87,11 +101,55 @@ public class SpotServiceImpl implements SpotService {
 
     @Override
     public List<SpotResponse> getSpotsInArea(Double minLat, Double maxLat, Double minLng, Double maxLng) {
+        if (spotSpatialIndex.isReady()) {
+            return spotSpatialIndex.findInBox(minLat, maxLat, minLng, maxLng);
+        }
         return spotRepository.findByLocationRange(minLat, maxLat, minLng, maxLng).stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<SpotResponse> getSpotsWithinRadius(Double latitude, Double longitude, Double radiusKm) {
+        GeoUtil.validateCoordinate(latitude, longitude);
+        if (radiusKm == null || radiusKm <= 0 || radiusKm > maxRadiusKm) {
+            throw new IllegalArgumentException("반경은 0보다 크고 " + maxRadiusKm + "km 이하여야 합니다.");
+        }
+        if (!spotSpatialIndex.isReady()) {
+            rebuildSpatialIndex();
+        }
+        return spotSpatialIndex.findWithinRadius(latitude, longitude, radiusKm);
+    }
+
+    @Override
+    public List<NearbySpotResponse> getNearestSpots(Double latitude, Double longitude, Integer k,
+                                                    SpotType spotType, WaterFacilityType waterFacilityType) {
+        GeoUtil.validateCoordinate(latitude, longitude);
+        if (k == null || k <= 0 || k > maxNearest) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + maxNearest + " 이하여야 합니다.");
+        }
+        if (!spotSpatialIndex.isReady()) {
+            rebuildSpatialIndex();
+        }
+        return spotSpatialIndex.findNearest(latitude, longitude, k, spot ->
+                (spotType == null || spotType == spot.getSpotType())
+                        && (waterFacilityType == null || waterFacilityType == spot.getWaterFacilityType()));
+    }
+
+    /**
+     * 낚시터 좌표 인덱스 재구성 (애플리케이션 시작 시, 낚시터 데이터 반입/삭제 후)
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public int rebuildSpatialIndex() {
+        List<SpotResponse> spots = spotRepository.findAll().stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+        spotSpatialIndex.replace(spots);
+        log.info("낚시터 좌표 인덱스 구성 완료: {}건", spotSpatialIndex.size());
+        return spotSpatialIndex.size();
+    }
+
     private boolean matchesLocationCriteria(Spot spot, SpotSearchRequest request) {
         // 위치 기반 필터링만 처리 (나머지는 쿼리에서 처리됨)
         if (request.getWaterFacilityType() != null && !request.getWaterFacilityType().equals(spot.getWaterFacilityType())) {
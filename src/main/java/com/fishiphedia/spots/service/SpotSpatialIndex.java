@@ -0,0 +1,304 @@
+package com.fishiphedia.spots.service;
+
+import com.fishiphedia.common.util.GeoUtil;
+import com.fishiphedia.spots.dto.NearbySpotResponse;
+import com.fishiphedia.spots.dto.SpotResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 낚시터 좌표 인덱스 (STR 방식으로 한 번에 채운 R-tree)
+ * 낚시터는 거의 바뀌지 않는 기준 데이터이므로 전체를 읽어 불변 트리로 만들고, 데이터가 바뀌면 트리를 통째로 교체한다.
+ * 조회 결과의 SpotResponse는 트리가 가진 공유 인스턴스이므로 수정하지 않는다.
+ */
+@Component
+public class SpotSpatialIndex {
+
+    private static final int NODE_CAPACITY = 16;
+
+    private static final Comparator<SpotResponse> BY_ID =
+            Comparator.comparing(SpotResponse::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private volatile Node root;
+    private volatile int size;
+
+    /**
+     * 좌표가 있는 낚시터로 트리를 새로 만들어 교체
+     */
+    public void replace(Collection<SpotResponse> spots) {
+        List<Node> leaves = new ArrayList<>();
+        List<SpotResponse> located = spots.stream()
+                .filter(spot -> spot.getLatitude() != null && spot.getLongitude() != null)
+                .toList();
+        for (List<SpotResponse> page : tile(located, SpotResponse::getLongitude, SpotResponse::getLatitude)) {
+            leaves.add(Node.leaf(page.toArray(new SpotResponse[0])));
+        }
+
+        List<Node> level = leaves;
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (List<Node> page : tile(level, Node::centerLng, Node::centerLat)) {
+                parents.add(Node.branch(page.toArray(new Node[0])));
+            }
+            level = parents;
+        }
+
+        this.root = level.isEmpty() ? null : level.get(0);
+        this.size = located.size();
+    }
+
+    public boolean isReady() {
+        return root != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 사각 영역 안의 낚시터 (경계 포함, id 순)
+     */
+    public List<SpotResponse> findInBox(double minLat, double maxLat, double minLng, double maxLng) {
+        List<SpotResponse> result = new ArrayList<>();
+        Node current = root;
+        if (current == null || minLat > maxLat || minLng > maxLng) {
+            return result;
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(current);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (!node.intersects(minLat, maxLat, minLng, maxLng)) {
+                continue;
+            }
+            if (node.spots != null) {
+                for (SpotResponse spot : node.spots) {
+                    double lat = spot.getLatitude();
+                    double lng = spot.getLongitude();
+                    if (lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng) {
+                        result.add(spot);
+                    }
+                }
+            } else if (node.contains(minLat, maxLat, minLng, maxLng)) {
+                collectAll(node, result);
+            } else {
+                for (Node child : node.children) {
+                    stack.push(child);
+                }
+            }
+        }
+        result.sort(BY_ID);
+        return result;
+    }
+
+    /**
+     * 중심에서 반경 radiusKm 안의 낚시터 (가까운 순)
+     * 반경을 감싸는 사각 영역으로 후보를 좁힌 뒤 haversine 거리로 거른다.
+     */
+    public List<SpotResponse> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / GeoUtil.KM_PER_DEGREE;
+        double minLat = Math.max(-90.0, latitude - latDelta);
+        double maxLat = Math.min(90.0, latitude + latDelta);
+
+        // 경도 1도의 거리는 극 쪽으로 갈수록 줄어드므로 영역 안에서 가장 극에 가까운 위도 기준으로 넓힌다
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double minLng = -180.0;
+        double maxLng = 180.0;
+        if (cosLat > 1e-6) {
+            double lngDelta = latDelta / cosLat;
+            if (lngDelta < 180.0) {
+                minLng = longitude - lngDelta;
+                maxLng = longitude + lngDelta;
+            }
+        }
+
+        List<SpotResponse> candidates = new ArrayList<>(findInBox(minLat, maxLat, minLng, maxLng));
+        // 날짜 변경선을 넘는 영역은 반대편 구간도 조회
+        if (minLng < -180.0) {
+            candidates.addAll(findInBox(minLat, maxLat, minLng + 360.0, 180.0));
+        }
+        if (maxLng > 180.0) {
+            candidates.addAll(findInBox(minLat, maxLat, -180.0, maxLng - 360.0));
+        }
+
+        List<DistanceEntry> within = new ArrayList<>();
+        for (SpotResponse spot : candidates) {
+            double distance = GeoUtil.haversineKm(latitude, longitude, spot.getLatitude(), spot.getLongitude());
+            if (distance <= radiusKm) {
+                within.add(new DistanceEntry(spot, distance));
+            }
+        }
+        within.sort(Comparator.comparingDouble(DistanceEntry::distanceKm));
+        return within.stream().map(DistanceEntry::spot).toList();
+    }
+
+    /**
+     * 기준 좌표에서 가까운 순으로 조건에 맞는 낚시터 k개
+     * 노드는 영역까지의 최소 거리, 낚시터는 haversine 거리를 우선순위로 하는 최우선 탐색이다.
+     * 큐에서 꺼낸 낚시터는 남은 어떤 후보보다 가깝기 때문에 k개를 채우면 바로 끝낸다.
+     */
+    public List<NearbySpotResponse> findNearest(double latitude, double longitude, int k, Predicate<SpotResponse> filter) {
+        List<NearbySpotResponse> result = new ArrayList<>(k);
+        Node current = root;
+        if (current == null || k <= 0) {
+            return result;
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distanceKm));
+        queue.add(new Candidate(current.minDistanceKm(latitude, longitude), current, null));
+        while (!queue.isEmpty() && result.size() < k) {
+            Candidate candidate = queue.poll();
+            if (candidate.spot != null) {
+                result.add(new NearbySpotResponse(candidate.spot, candidate.distanceKm));
+            } else if (candidate.node.spots != null) {
+                for (SpotResponse spot : candidate.node.spots) {
+                    if (filter.test(spot)) {
+                        double distance = GeoUtil.haversineKm(latitude, longitude, spot.getLatitude(), spot.getLongitude());
+                        queue.add(new Candidate(distance, null, spot));
+                    }
+                }
+            } else {
+                for (Node child : candidate.node.children) {
+                    queue.add(new Candidate(child.minDistanceKm(latitude, longitude), child, null));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void collectAll(Node node, List<SpotResponse> result) {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.spots != null) {
+                for (SpotResponse spot : current.spots) {
+                    result.add(spot);
+                }
+            } else {
+                for (Node child : current.children) {
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sort-Tile-Recursive 분할: x 기준으로 세로 띠를 나누고 띠마다 y 기준으로 정렬해 NODE_CAPACITY씩 묶는다.
+     */
+    private static <T> List<List<T>> tile(List<T> entries, ToDoubleFunction<T> x, ToDoubleFunction<T> y) {
+        List<List<T>> pages = new ArrayList<>();
+        if (entries.isEmpty()) {
+            return pages;
+        }
+        int pageCount = (entries.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(pageCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+
+        List<T> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingDouble(x));
+        for (int sliceStart = 0; sliceStart < sorted.size(); sliceStart += sliceSize) {
+            List<T> slice = new ArrayList<>(sorted.subList(sliceStart, Math.min(sliceStart + sliceSize, sorted.size())));
+            slice.sort(Comparator.comparingDouble(y));
+            for (int pageStart = 0; pageStart < slice.size(); pageStart += NODE_CAPACITY) {
+                pages.add(slice.subList(pageStart, Math.min(pageStart + NODE_CAPACITY, slice.size())));
+            }
+        }
+        return pages;
+    }
+
+    private record DistanceEntry(SpotResponse spot, double distanceKm) {
+    }
+
+    private record Candidate(double distanceKm, Node node, SpotResponse spot) {
+    }
+
+    private static final class Node {
+        private final double minLat;
+        private final double maxLat;
+        private final double minLng;
+        private final double maxLng;
+        private final Node[] children;
+        private final SpotResponse[] spots;
+
+        private Node(double minLat, double maxLat, double minLng, double maxLng, Node[] children, SpotResponse[] spots) {
+            this.minLat = minLat;
+            this.maxLat = maxLat;
+            this.minLng = minLng;
+            this.maxLng = maxLng;
+            this.children = children;
+            this.spots = spots;
+        }
+
+        private static Node leaf(SpotResponse[] spots) {
+            double minLat = Double.POSITIVE_INFINITY, maxLat = Double.NEGATIVE_INFINITY;
+            double minLng = Double.POSITIVE_INFINITY, maxLng = Double.NEGATIVE_INFINITY;
+            for (SpotResponse spot : spots) {
+                minLat = Math.min(minLat, spot.getLatitude());
+                maxLat = Math.max(maxLat, spot.getLatitude());
+                minLng = Math.min(minLng, spot.getLongitude());
+                maxLng = Math.max(maxLng, spot.getLongitude());
+            }
+            return new Node(minLat, maxLat, minLng, maxLng, null, spots);
+        }
+
+        private static Node branch(Node[] children) {
+            double minLat = Double.POSITIVE_INFINITY, maxLat = Double.NEGATIVE_INFINITY;
+            double minLng = Double.POSITIVE_INFINITY, maxLng = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                minLat = Math.min(minLat, child.minLat);
+                maxLat = Math.max(maxLat, child.maxLat);
+                minLng = Math.min(minLng, child.minLng);
+                maxLng = Math.max(maxLng, child.maxLng);
+            }
+            return new Node(minLat, maxLat, minLng, maxLng, children, null);
+        }
+
+        private double centerLat() {
+            return (minLat + maxLat) / 2;
+        }
+
+        private double centerLng() {
+            return (minLng + maxLng) / 2;
+        }
+
+        /**
+         * 좌표에서 영역 안 어느 점까지의 거리보다 항상 작거나 같은 값 (km)
+         * 위도 차이만큼의 자오선 거리와, 가까운 경도 경계의 대원까지 거리 중 큰 값을 쓴다.
+         */
+        private double minDistanceKm(double latitude, double longitude) {
+            double latGap = latitude < minLat ? minLat - latitude : latitude > maxLat ? latitude - maxLat : 0.0;
+            double lngGap = 0.0;
+            if (longitude < minLng || longitude > maxLng) {
+                lngGap = Math.min(wrapDegrees(minLng - longitude), wrapDegrees(longitude - maxLng));
+            }
+            double latBound = latGap * GeoUtil.KM_PER_DEGREE;
+            double lngBound = GeoUtil.EARTH_RADIUS_KM
+                    * Math.asin(Math.min(1.0, Math.cos(Math.toRadians(latitude)) * Math.sin(Math.toRadians(lngGap))));
+            return Math.max(latBound, lngBound);
+        }
+
+        private static double wrapDegrees(double degrees) {
+            double wrapped = degrees % 360.0;
+            return wrapped < 0 ? wrapped + 360.0 : wrapped;
+        }
+
+        private boolean intersects(double queryMinLat, double queryMaxLat, double queryMinLng, double queryMaxLng) {
+            return minLat <= queryMaxLat && maxLat >= queryMinLat && minLng <= queryMaxLng && maxLng >= queryMinLng;
+        }
+
+        private boolean contains(double queryMinLat, double queryMaxLat, double queryMinLng, double queryMaxLng) {
+            return minLat >= queryMinLat && maxLat <= queryMaxLat && minLng >= queryMinLng && maxLng <= queryMaxLng;
+        }
+    }
+}
@@ -3,6 +3,9 @@
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.fishiphedia.user.entity.UserInfo;
@@ -15,4 +18,16 @@ public interface UserInfoRepository extends JpaRepository<UserInfo, Long> {
     boolean existsByName(String name);
     
     boolean existsByEmail(String email);
+    
+    // 총점 원자적 증가 (동시 조과 기록 시 갱신 손실 방지)
+    @Modifying
+    @Query(value = "UPDATE user_info SET total_score = COALESCE(total_score, 0) + :delta WHERE user_id = :userId", nativeQuery = true)
+    int addTotalScore(@Param("userId") Long userId, @Param("delta") int delta);
+    
+    @Query(value = "SELECT total_score FROM user_info WHERE user_id = :userId", nativeQuery = true)
+    Integer findTotalScoreByUserId(@Param("userId") Long userId);
+    
+    @Modifying
+    @Query(value = "UPDATE user_info SET level = :level, current_level_progress = :progress WHERE user_id = :userId", nativeQuery = true)
+    int updateLevel(@Param("userId") Long userId, @Param("level") int level, @Param("progress") double progress);
 } 
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.fishiphedia.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 순위/분위수 추정이 정확한 값과 오차 범위 안에 드는지, 병합과 직렬화가 분포를 보존하는지 확인한다.
+ */
+class KllSketchTest {
+
+    private static final int K = 200;
+    // 이론 오차(약 1.7/k)에 여유를 둔 허용 순위 오차
+    private static final double RANK_TOLERANCE = 0.02;
+
+    @Test
+    void rankAndQuantileStayWithinErrorBound() {
+        double[] values = gaussian(new Random(1), 100_000);
+        KllSketch sketch = new KllSketch(K);
+        for (double value : values) {
+            sketch.update(value);
+        }
+
+        assertEquals(values.length, sketch.getN());
+        assertTrue(sketch.getRetained() < 3 * K + 64, "보관 개수가 k에 비례해야 함: " + sketch.getRetained());
+        assertWithinBound(sketch, values);
+    }
+
+    @Test
+    void mergedSketchMatchesCombinedStream() {
+        Random random = new Random(2);
+        double[] first = gaussian(random, 60_000);
+        double[] second = new double[40_000];
+        for (int i = 0; i < second.length; i++) {
+            second[i] = 50 + random.nextDouble() * 30;
+        }
+        KllSketch left = new KllSketch(K);
+        KllSketch right = new KllSketch(K);
+        Arrays.stream(first).forEach(left::update);
+        Arrays.stream(second).forEach(right::update);
+
+        left.merge(right);
+
+        double[] combined = new double[first.length + second.length];
+        System.arraycopy(first, 0, combined, 0, first.length);
+        System.arraycopy(second, 0, combined, first.length, second.length);
+        assertEquals(combined.length, left.getN());
+        assertWithinBound(left, combined);
+    }
+
+    @Test
+    void serializationRoundTripPreservesEstimates() {
+        KllSketch sketch = new KllSketch(K);
+        Arrays.stream(gaussian(new Random(3), 20_000)).forEach(sketch::update);
+
+        KllSketch restored = KllSketch.fromByteArray(sketch.toByteArray());
+
+        assertEquals(sketch.getN(), restored.getN());
+        assertEquals(sketch.getK(), restored.getK());
+        assertEquals(sketch.getRetained(), restored.getRetained());
+        for (double value = 0; value <= 60; value += 2.5) {
+            assertEquals(sketch.rank(value), restored.rank(value));
+        }
+        assertEquals(sketch.quantile(0.5), restored.quantile(0.5));
+    }
+
+    @Test
+    void emptyAndBoundaryQueries() {
+        KllSketch sketch = new KllSketch(K);
+        assertTrue(Double.isNaN(sketch.rank(1.0)));
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+
+        sketch.update(10);
+        sketch.update(20);
+        assertEquals(0.0, sketch.rank(5));
+        assertEquals(1.0, sketch.rank(20));
+        assertEquals(10.0, sketch.quantile(0.0));
+        assertEquals(20.0, sketch.quantile(1.0));
+        assertThrows(IllegalArgumentException.class, () -> new KllSketch(4));
+    }
+
+    private static void assertWithinBound(KllSketch sketch, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double fraction = 0.01; fraction < 1.0; fraction += 0.01) {
+            double value = sorted[(int) (fraction * (sorted.length - 1))];
+            double exactRank = exactRank(sorted, value);
+            assertEquals(exactRank, sketch.rank(value), RANK_TOLERANCE, "rank 오차 초과: " + value);
+            assertEquals(fraction, exactRank(sorted, sketch.quantile(fraction)), RANK_TOLERANCE, "quantile 오차 초과: " + fraction);
+        }
+    }
+
+    // value 이하 비율
+    private static double exactRank(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return (double) low / sorted.length;
+    }
+
+    private static double[] gaussian(Random random, int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = 30 + random.nextGaussian() * 8;
+        }
+        return values;
+    }
+}
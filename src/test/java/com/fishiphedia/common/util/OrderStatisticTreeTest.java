@@ -0,0 +1,74 @@
+package com.fishiphedia.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 무작위 삽입/삭제 후 순위, k번째, 구간 조회를 정렬된 리스트와 비교한다.
+ */
+class OrderStatisticTreeTest {
+
+    @Test
+    void matchesSortedListUnderRandomInsertsAndRemovals() {
+        Random random = new Random(7);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int value = random.nextInt(2000);
+            int position = Collections.binarySearch(expected, value);
+            if (position < 0 && random.nextInt(3) > 0) {
+                tree.add(value);
+                expected.add(-position - 1, value);
+            } else {
+                assertEquals(position >= 0, tree.remove(value));
+                if (position >= 0) {
+                    expected.remove(position);
+                }
+            }
+            assertEquals(expected.size(), tree.size());
+        }
+
+        for (int value = -1; value <= 2000; value += 7) {
+            int position = Collections.binarySearch(expected, value);
+            int rank = position >= 0 ? position : -position - 1;
+            assertEquals(rank, tree.rankOf(value));
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tree.get(i));
+        }
+        assertEquals(expected, tree.range(0, expected.size()));
+    }
+
+    @Test
+    void rangeClampsToTreeBounds() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+        for (int i = 1; i <= 10; i++) {
+            tree.add(i);
+        }
+        assertEquals(List.of(10, 9, 8), tree.range(-5, 3));
+        assertEquals(List.of(3, 2, 1), tree.range(7, 100));
+        assertEquals(List.of(), tree.range(10, 5));
+        assertEquals(List.of(), tree.range(0, -1));
+    }
+
+    @Test
+    void removeAndGetHandleMissingValues() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        assertFalse(tree.remove(1));
+        tree.add(1);
+        assertTrue(tree.remove(1));
+        assertEquals(0, tree.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(0));
+    }
+}
@@ -0,0 +1,92 @@
+package com.fishiphedia.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Welford 누적과 Chan 병합 결과를 두 번 훑는 정확한 평균/분산 계산과 비교한다.
+ */
+class RunningStatisticsTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void addMatchesTwoPassComputation() {
+        double[] values = sample(new Random(11), 10_000, 1e6);
+        RunningStatistics stats = new RunningStatistics();
+        for (double value : values) {
+            stats.add(value);
+        }
+        assertMatches(values, stats);
+    }
+
+    @Test
+    void mergeMatchesSingleStream() {
+        Random random = new Random(12);
+        for (int trial = 0; trial < 50; trial++) {
+            double[] values = sample(random, 1 + random.nextInt(2000), random.nextDouble() * 100);
+            int split = random.nextInt(values.length + 1);
+            RunningStatistics left = new RunningStatistics();
+            RunningStatistics right = new RunningStatistics();
+            for (int i = 0; i < values.length; i++) {
+                (i < split ? left : right).add(values[i]);
+            }
+            left.merge(right);
+            assertMatches(values, left);
+        }
+    }
+
+    @Test
+    void mergeWithEmptySideKeepsOtherSide() {
+        RunningStatistics empty = new RunningStatistics();
+        RunningStatistics filled = new RunningStatistics(3, 2.0, 8.0);
+
+        empty.merge(filled);
+        assertEquals(3, empty.getCount());
+        assertEquals(2.0, empty.getMean());
+        assertEquals(8.0, empty.getM2());
+
+        filled.merge(new RunningStatistics());
+        assertEquals(3, filled.getCount());
+        assertEquals(4.0, filled.getVariance());
+        assertEquals(2.0, filled.getStdDeviation());
+    }
+
+    @Test
+    void varianceIsZeroBelowTwoSamples() {
+        RunningStatistics stats = new RunningStatistics();
+        assertEquals(0.0, stats.getVariance());
+        stats.add(5.0);
+        assertEquals(0.0, stats.getVariance());
+        assertEquals(5.0, stats.getMean());
+    }
+
+    private static void assertMatches(double[] values, RunningStatistics stats) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        double mean = sum / values.length;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        double variance = values.length > 1 ? squares / (values.length - 1) : 0.0;
+
+        assertEquals(values.length, stats.getCount());
+        assertEquals(mean, stats.getMean(), EPSILON * Math.max(1, Math.abs(mean)));
+        assertEquals(variance, stats.getVariance(), EPSILON * Math.max(1, variance));
+    }
+
+    // 큰 오프셋을 더해 단순 합/제곱합 방식이면 정밀도가 무너지는 표본
+    private static double[] sample(Random random, int n, double offset) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = offset + random.nextGaussian() * 3;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,151 @@
+package com.fishiphedia.spots.service;
+
+import com.fishiphedia.common.util.GeoUtil;
+import com.fishiphedia.spots.dto.NearbySpotResponse;
+import com.fishiphedia.spots.dto.SpotResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * R-tree 조회 결과를 전체 낚시터 haversine 정렬(brute force)과 비교한다.
+ * 날짜 변경선 양쪽과 극 근처에 점을 몰아 두어 경도 래핑과 고위도 경계 계산을 함께 확인한다.
+ */
+class SpotSpatialIndexTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private final Random random = new Random(42);
+    private final List<SpotResponse> spots = new ArrayList<>();
+    private final SpotSpatialIndex index = new SpotSpatialIndex();
+
+    @BeforeEach
+    void setUp() {
+        long id = 1;
+        // 전 지구 무작위
+        for (int i = 0; i < 3000; i++) {
+            spots.add(spot(id++, -90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360));
+        }
+        // 날짜 변경선 양쪽
+        for (int i = 0; i < 1000; i++) {
+            double lng = random.nextBoolean() ? 178 + random.nextDouble() * 2 : -180 + random.nextDouble() * 2;
+            spots.add(spot(id++, -60 + random.nextDouble() * 120, lng));
+        }
+        // 고위도 (북극/남극 근처)
+        for (int i = 0; i < 1000; i++) {
+            double lat = random.nextBoolean() ? 80 + random.nextDouble() * 10 : -90 + random.nextDouble() * 10;
+            spots.add(spot(id++, lat, -180 + random.nextDouble() * 360));
+        }
+        // 한반도 주변 밀집
+        for (int i = 0; i < 3000; i++) {
+            spots.add(spot(id++, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+        index.replace(spots);
+    }
+
+    @Test
+    void findNearestMatchesBruteForceForRandomQueries() {
+        for (int i = 0; i < 200; i++) {
+            assertNearest(-90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360, 1 + random.nextInt(30), spot -> true);
+        }
+    }
+
+    @Test
+    void findNearestMatchesBruteForceAcrossAntimeridian() {
+        double[][] queries = {{0, 180}, {0, -180}, {10, 179.9}, {-10, -179.9}, {45, 179.99}, {-45, -179.5}, {60, 180}};
+        for (double[] query : queries) {
+            assertNearest(query[0], query[1], 20, spot -> true);
+        }
+    }
+
+    @Test
+    void findNearestMatchesBruteForceAtHighLatitude() {
+        double[][] queries = {{90, 0}, {-90, 0}, {89.9, 120}, {-89.5, -45}, {85, 179.9}, {-85, -179.9}, {75, 10}};
+        for (double[] query : queries) {
+            assertNearest(query[0], query[1], 20, spot -> true);
+        }
+    }
+
+    @Test
+    void findNearestAppliesFilterBeforeTakingK() {
+        Predicate<SpotResponse> evenId = spot -> spot.getId() % 2 == 0;
+        for (int i = 0; i < 100; i++) {
+            assertNearest(-90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360, 10, evenId);
+        }
+        assertNearest(0, 180, 10, evenId);
+        assertNearest(89.9, 0, 10, evenId);
+    }
+
+    @Test
+    void findWithinRadiusMatchesBruteForce() {
+        double[][] queries = {{35, 127, 50}, {0, 179.9, 500}, {0, -179.9, 500}, {88, 0, 800}, {-89, 90, 300}, {20, 50, 2000}};
+        for (double[] query : queries) {
+            List<SpotResponse> result = index.findWithinRadius(query[0], query[1], query[2]);
+            Set<Long> expected = spots.stream()
+                    .filter(spot -> distance(query[0], query[1], spot) <= query[2])
+                    .map(SpotResponse::getId)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, result.stream().map(SpotResponse::getId).collect(Collectors.toSet()),
+                    "반경 조회 불일치: " + query[0] + ", " + query[1] + ", " + query[2]);
+            for (int i = 1; i < result.size(); i++) {
+                assertTrue(distance(query[0], query[1], result.get(i - 1)) <= distance(query[0], query[1], result.get(i)));
+            }
+        }
+    }
+
+    @Test
+    void findInBoxMatchesBruteForce() {
+        for (int i = 0; i < 100; i++) {
+            double minLat = -90 + random.nextDouble() * 170;
+            double maxLat = minLat + random.nextDouble() * 20;
+            double minLng = -180 + random.nextDouble() * 340;
+            double maxLng = minLng + random.nextDouble() * 20;
+            List<Long> expected = spots.stream()
+                    .filter(spot -> spot.getLatitude() >= minLat && spot.getLatitude() <= maxLat
+                            && spot.getLongitude() >= minLng && spot.getLongitude() <= maxLng)
+                    .map(SpotResponse::getId)
+                    .sorted()
+                    .toList();
+            assertEquals(expected, index.findInBox(minLat, maxLat, minLng, maxLng).stream().map(SpotResponse::getId).toList());
+        }
+    }
+
+    private void assertNearest(double latitude, double longitude, int k, Predicate<SpotResponse> filter) {
+        List<Double> expected = spots.stream()
+                .filter(filter)
+                .map(spot -> distance(latitude, longitude, spot))
+                .sorted(Comparator.naturalOrder())
+                .limit(k)
+                .toList();
+        List<NearbySpotResponse> result = index.findNearest(latitude, longitude, k, filter);
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            NearbySpotResponse nearby = result.get(i);
+            assertTrue(filter.test(nearby.getSpot()));
+            assertEquals(expected.get(i), nearby.getDistanceKm(), EPSILON,
+                    "최근접 " + i + "번째 거리 불일치: " + latitude + ", " + longitude);
+        }
+    }
+
+    private static double distance(double latitude, double longitude, SpotResponse spot) {
+        return GeoUtil.haversineKm(latitude, longitude, spot.getLatitude(), spot.getLongitude());
+    }
+
+    private static SpotResponse spot(long id, double latitude, double longitude) {
+        SpotResponse spot = new SpotResponse();
+        spot.setId(id);
+        spot.setLatitude(latitude);
+        spot.setLongitude(longitude);
+        return spot;
+    }
+}